@@ -0,0 +1,75 @@
+package com.tejas.splitspend.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tejas.splitspend.group.MemberRole;
+import com.tejas.splitspend.group.dto.GroupMembersResponseDto;
+import com.tejas.splitspend.group.dto.GroupPageResponseDto;
+import com.tejas.splitspend.group.dto.GroupResponseDto;
+import com.tejas.splitspend.group.dto.MemberDto;
+import com.tejas.splitspend.user.dto.UserResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Jackson serialization of the ZonedDateTime-bearing response records,
+ * using the same ObjectMapper defaults Spring Boot applies.
+ *
+ * Run: ./mvnw -Pjmh verify -Djmh.args="JsonSerializationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private UserResponseDto user;
+    private GroupPageResponseDto groupPage;
+    private GroupMembersResponseDto groupMembers;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        ZonedDateTime now = ZonedDateTime.now();
+        user = new UserResponseDto(1L, "Tejas", "tejas@example.com", "9876543210", now);
+
+        List<GroupResponseDto> groups = new ArrayList<>(size);
+        List<MemberDto> members = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            groups.add(new GroupResponseDto(i, "Group " + i, 1L, now, 12));
+            members.add(new MemberDto(i, "User " + i, "user" + i + "@example.com", MemberRole.MEMBER, now));
+        }
+        groupPage = new GroupPageResponseDto(groups, (long) size);
+        groupMembers = new GroupMembersResponseDto("Benchmark Group", members, size);
+    }
+
+    @Benchmark
+    public byte[] userResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] groupPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(groupPage);
+    }
+
+    @Benchmark
+    public byte[] groupMembers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(groupMembers);
+    }
+}
@@ -0,0 +1,97 @@
+package com.tejas.splitspend.group;
+
+import com.tejas.splitspend.SplitSpendApplication;
+import com.tejas.splitspend.group.dto.AddGroupMembersBulkDto;
+import com.tejas.splitspend.group.dto.AddGroupMembersDto;
+import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.group.dto.GroupMembersResponseDto;
+import com.tejas.splitspend.user.User;
+import com.tejas.splitspend.user.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * GroupService.addMember end to end (service, JPA, SQL) against an in-memory H2
+ * database in MySQL mode, for groups that already hold groupSize members.
+ *
+ * Run: ./mvnw -Pjmh verify -Djmh.args="AddMemberBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddMemberBenchmark {
+
+    @Param({"10", "5000"})
+    private int groupSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private GroupService groupService;
+    private UserRepository userRepository;
+    private Long groupId;
+    private Long nextUserId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // command-line arguments, so they win over application.properties
+        context = new SpringApplicationBuilder(SplitSpendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        // Migrations are MySQL DDL - H2 gets its schema from the mappings
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        groupService = context.getBean(GroupService.class);
+        userRepository = context.getBean(UserRepository.class);
+
+        User creator = newUser();
+        groupId = groupService.createGroup(new CreateGroupDto("Benchmark Group", creator.getUserId())).getGroupId();
+
+        List<Long> userIds = new ArrayList<>(groupSize);
+        for (int i = 1; i < groupSize; i++) {
+            userIds.add(newUser().getUserId());
+            if (userIds.size() == 500) {
+                groupService.addMembers(new AddGroupMembersBulkDto(groupId, userIds));
+                userIds.clear();
+            }
+        }
+        if (!userIds.isEmpty()) {
+            groupService.addMembers(new AddGroupMembersBulkDto(groupId, userIds));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createCandidate() {
+        nextUserId = newUser().getUserId();
+    }
+
+    @Benchmark
+    public GroupMembersResponseDto addMember() {
+        return groupService.addMember(new AddGroupMembersDto(groupId, nextUserId));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    private User newUser() {
+        long n = sequence.incrementAndGet();
+        return userRepository.save(new User("User " + n, "user" + n + "@example.com",
+                String.valueOf(9_000_000_000L + n), "hashed"));
+    }
+}
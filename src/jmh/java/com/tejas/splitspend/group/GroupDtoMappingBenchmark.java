@@ -0,0 +1,52 @@
+package com.tejas.splitspend.group;
+
+import com.tejas.splitspend.group.dto.GroupMembersResponseDto;
+import com.tejas.splitspend.group.dto.GroupResponseDto;
+import com.tejas.splitspend.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Entity-to-DTO mapping cost for groups with large, already-loaded member lists.
+ *
+ * Run: ./mvnw -Pjmh verify -Djmh.args="GroupDtoMappingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupDtoMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int members;
+
+    private Group group;
+
+    @Setup
+    public void setUp() {
+        group = new Group("Benchmark Group", 1L);
+        group.setGroupId(1L);
+        group.setCreatedAt(ZonedDateTime.now());
+        for (long i = 1; i <= members; i++) {
+            User user = new User("User " + i, "user" + i + "@example.com", String.valueOf(9_000_000_000L + i), "hashed");
+            user.setUserId(i);
+            GroupMember member = new GroupMember(group, user, i == 1 ? MemberRole.ADMIN : MemberRole.MEMBER);
+            member.setCreatedAt(ZonedDateTime.now());
+            group.addMember(member);
+        }
+    }
+
+    @Benchmark
+    public GroupResponseDto groupResponse() {
+        return GroupResponseDto.from(group);
+    }
+
+    @Benchmark
+    public GroupMembersResponseDto groupMembersResponse() {
+        return GroupMembersResponseDto.from(group);
+    }
+}
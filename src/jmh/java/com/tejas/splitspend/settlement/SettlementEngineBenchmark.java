@@ -0,0 +1,46 @@
+package com.tejas.splitspend.settlement;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Settlement latency for a typical group (10 members, exact solver) and for
+ * large ones (1k and 100k members, heap-based greedy).
+ *
+ * Run: ./mvnw -Pjmh verify -Djmh.args="SettlementEngineBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettlementEngineBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int members;
+
+    private SettlementEngine engine;
+    private long[] balances;
+
+    @Setup
+    public void setUp() {
+        engine = new SettlementEngine(16, Duration.ofMillis(5));
+        Random random = new Random(42);
+        balances = new long[members];
+        long total = 0;
+        for (int i = 0; i < members - 1; i++) {
+            balances[i] = random.nextInt(2_000_001) - 1_000_000;
+            total += balances[i];
+        }
+        balances[members - 1] = -total;
+    }
+
+    @Benchmark
+    public SettlementPlan settle() {
+        return engine.settle(balances);
+    }
+}
@@ -0,0 +1,70 @@
+package com.tejas.splitspend.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/*
+ * Collects per-request latencies for one endpoint and summarises them.
+ * Raw samples are kept (a few thousand longs per run) so percentiles are exact.
+ */
+final class LatencyRecorder {
+
+    private final String endpoint;
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+    private long startNanos;
+    private long endNanos;
+
+    LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    static String header() {
+        return String.format(Locale.ROOT, "%-28s %9s %7s %11s %9s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+    }
+
+    synchronized String summary() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        double seconds = (endNanos - startNanos) / 1e9;
+        return String.format(Locale.ROOT, "%-28s %9d %7d %11.1f %9.2f %9.2f %9.2f %9.2f",
+                endpoint, count, errors, count / seconds,
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.99)),
+                millis(percentile(sorted, 0.999)),
+                millis(count == 0 ? 0 : sorted[count - 1]));
+    }
+
+    // nearest-rank percentile
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
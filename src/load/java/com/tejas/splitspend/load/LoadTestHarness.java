@@ -0,0 +1,243 @@
+package com.tejas.splitspend.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tejas.splitspend.SplitSpendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/*
+ * End-to-end load harness.
+ *
+ * Boots SplitSpendApplication on a random port against in-memory H2 (MySQL mode),
+ * seeds users and groups over HTTP, then drives each endpoint in turn at a fixed
+ * concurrency and prints latency percentiles and throughput per endpoint.
+ * With compare=<profile> the same workload runs on the default profile and then on
+ * the given one (e.g. prod-perf), and both tables are printed side by side.
+ *
+ * Run: ./mvnw -Pload verify -Dload.args="users=500 groups=100 concurrency=64 requests=5000"
+ */
+public final class LoadTestHarness {
+
+    private static final String PASSWORD = "password123";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    private long[] userIds;
+    private long[] groupIds;
+
+    private LoadTestHarness(LoadTestOptions options, int port) {
+        this.options = options;
+        this.baseUrl = "http://localhost:" + port;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        if (options.compareProfile() == null) {
+            print("configured profile", runOnce(options, "load", options.applicationArgs()));
+            return;
+        }
+
+        // Same workload twice on fresh databases; tables are printed together at the end
+        List<String> baseline = runOnce(options, "load_default", options.applicationArgs());
+        List<String> profileArgs = new ArrayList<>(options.applicationArgs());
+        profileArgs.add("--spring.profiles.active=" + options.compareProfile());
+        List<String> tuned = runOnce(options, "load_profile", profileArgs);
+
+        print("default profile", baseline);
+        print(options.compareProfile() + " profile", tuned);
+    }
+
+    /*
+     * The embedded-database settings go in as command-line arguments so they override
+     * whatever a profile sets (profile files outrank SpringApplication default properties).
+     */
+    private static List<String> runOnce(LoadTestOptions options, String database, List<String> applicationArgs)
+            throws InterruptedException {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                // Migrations are MySQL DDL - H2 gets its schema from the mappings
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--logging.level.root=WARN",
+                "--logging.level.splitspend.sql=INFO"));
+        args.addAll(applicationArgs);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SplitSpendApplication.class)
+                .run(args.toArray(String[]::new));
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return new LoadTestHarness(options, port).run();
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void print(String title, List<String> table) {
+        System.out.printf("%n== %s ==%n", title);
+        table.forEach(System.out::println);
+    }
+
+    private List<String> run() throws InterruptedException {
+        System.out.printf("Seeding %d users and %d groups...%n", options.users(), options.groups());
+        seed();
+
+        System.out.printf("Driving %d requests per endpoint (%d warm-up) at concurrency %d%n%n",
+                options.requests(), options.warmup(), options.concurrency());
+
+        AtomicInteger signups = new AtomicInteger();
+        AtomicInteger memberAdds = new AtomicInteger();
+
+        LatencyRecorder[] recorders = {
+                drive("POST /v1/user/signup", i -> signup(options.users() + signups.getAndIncrement())),
+                drive("POST /v1/user/login", i -> login(ThreadLocalRandom.current().nextInt(options.users()))),
+                drive("GET /v1/groups", i -> listGroups()),
+                drive("POST /v1/groups/member/add", i -> addMember(memberAdds.getAndIncrement()))
+        };
+
+        List<String> table = new ArrayList<>();
+        table.add(LatencyRecorder.header());
+        for (LatencyRecorder recorder : recorders) {
+            table.add(recorder.summary());
+        }
+        return table;
+    }
+
+    /*
+     * Users 1..N-1 are the member pool; every group is owned by user 0 so that
+     * no (group, user) pair used by the member-add phase already exists.
+     */
+    private void seed() throws InterruptedException {
+        userIds = new long[options.users()];
+        groupIds = new long[options.groups()];
+
+        runConcurrently(options.users(), i -> {
+            HttpResponse<String> response = signup(i);
+            userIds[i] = readId(response, "userId");
+            return response;
+        });
+        runConcurrently(options.groups(), i -> {
+            HttpResponse<String> response = post("/v1/groups/create",
+                    "{\"groupName\":\"Load Group " + i + "\",\"createdById\":" + userIds[0] + "}");
+            groupIds[i] = readId(response, "groupId");
+            return response;
+        });
+    }
+
+    private LatencyRecorder drive(String endpoint, IntFunction<HttpResponse<String>> call) throws InterruptedException {
+        runConcurrently(options.warmup(), call);
+
+        LatencyRecorder recorder = new LatencyRecorder(endpoint);
+        recorder.start();
+        runConcurrently(options.requests(), i -> {
+            long started = System.nanoTime();
+            HttpResponse<String> response = call.apply(i);
+            recorder.record(System.nanoTime() - started, response != null && response.statusCode() < 400);
+            return response;
+        });
+        recorder.stop();
+        return recorder;
+    }
+
+    // Runs total calls across a fixed number of virtual-thread workers, failing if any worker failed
+    private void runConcurrently(int total, IntFunction<HttpResponse<String>> call) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < Math.min(options.concurrency(), total); w++) {
+                futures.add(workers.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                        call.apply(i);
+                    }
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause().getMessage(), ex.getCause());
+            }
+        }
+    }
+
+    private HttpResponse<String> signup(int n) {
+        return post("/v1/user/signup", "{\"name\":\"Load User " + n + "\",\"email\":\"load" + n
+                + "@example.com\",\"phoneNumber\":\"" + (7_000_000_000L + n) + "\",\"password\":\"" + PASSWORD + "\"}");
+    }
+
+    private HttpResponse<String> login(int n) {
+        return post("/v1/user/login", "{\"email\":\"load" + n + "@example.com\",\"password\":\"" + PASSWORD + "\"}");
+    }
+
+    private HttpResponse<String> listGroups() {
+        long after = groupIds[ThreadLocalRandom.current().nextInt(groupIds.length)] - 1;
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/v1/groups?size=20&after=" + after)).GET());
+    }
+
+    // Walks group-major over the member pool so every request adds a new (group, user) pair
+    private HttpResponse<String> addMember(int n) {
+        long groupId = groupIds[n % groupIds.length];
+        long userId = userIds[1 + (n / groupIds.length) % (userIds.length - 1)];
+        return post("/v1/groups/member/add", "{\"groupId\":" + groupId + ",\"userId\":" + userId + "}");
+    }
+
+    private HttpResponse<String> post(String path, String json) {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) {
+        try {
+            return client.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private long readId(HttpResponse<String> response, String field) {
+        if (response == null || response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding failed: "
+                    + (response == null ? "no response" : response.statusCode() + " " + response.body()));
+        }
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            return body.get(field).asLong();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unreadable seed response: " + response.body(), ex);
+        }
+    }
+}
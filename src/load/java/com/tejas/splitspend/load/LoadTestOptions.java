@@ -0,0 +1,71 @@
+package com.tejas.splitspend.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Harness settings, parsed from "name=value" arguments.
+ * Anything the harness does not recognise is handed to Spring Boot untouched,
+ * so e.g. --spring.profiles.active=prod-perf works as usual.
+ */
+record LoadTestOptions(
+        int users,
+        int groups,
+        int concurrency,
+        int requests,
+        int warmup,
+        String compareProfile,
+        List<String> applicationArgs
+) {
+
+    static LoadTestOptions parse(String[] args) {
+        int users = 200;
+        int groups = 50;
+        int concurrency = 32;
+        int requests = 2000;
+        int warmup = 200;
+        String compareProfile = null;
+        List<String> applicationArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("users=")) {
+                users = positive(arg);
+            } else if (arg.startsWith("groups=")) {
+                groups = positive(arg);
+            } else if (arg.startsWith("concurrency=")) {
+                concurrency = positive(arg);
+            } else if (arg.startsWith("requests=")) {
+                requests = positive(arg);
+            } else if (arg.startsWith("warmup=")) {
+                warmup = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("compare=")) {
+                compareProfile = value(arg);
+            } else if (!arg.isBlank()) {
+                applicationArgs.add(arg);
+            }
+        }
+
+        if (users < 2) {
+            throw new IllegalArgumentException("users must be at least 2 (one group owner plus members)");
+        }
+        // every member-add request needs a fresh (group, user) pair
+        long memberPairs = (long) groups * (users - 1);
+        if (warmup + requests > memberPairs) {
+            throw new IllegalArgumentException("warmup + requests (" + (warmup + requests)
+                    + ") exceeds the " + memberPairs + " distinct group/user pairs; seed more users or groups");
+        }
+        return new LoadTestOptions(users, groups, concurrency, requests, warmup, compareProfile, List.copyOf(applicationArgs));
+    }
+
+    private static int positive(String arg) {
+        int value = Integer.parseInt(value(arg));
+        if (value < 1) {
+            throw new IllegalArgumentException(arg + " must be positive");
+        }
+        return value;
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.tejas.splitspend.load;
+
+import com.tejas.splitspend.SplitSpendApplication;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Startup benchmark for the "startup" Maven profile.
+ *
+ * Launches the startup jar (target/startup) as a fresh JVM per run and measures
+ * time-to-first-request: from process start until GET /v1/groups first answers 200.
+ * Each configuration adds one optimization on top of the previous one, so the table
+ * shows what each step buys. Runs are interleaved across configurations to spread
+ * machine noise evenly. Every JVM gets the same in-memory H2 (MySQL mode) database,
+ * migrated by Flyway as in production.
+ *
+ * Run: ./mvnw -Pstartup verify -Dstartup.args="runs=5"
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final Path startupDir;
+    private final String h2Jar;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupBenchmark(Path startupDir, String h2Jar) {
+        this.startupDir = startupDir;
+        this.h2Jar = h2Jar;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 3;
+        for (String arg : args) {
+            if (arg.startsWith("runs=")) {
+                runs = Integer.parseInt(arg.substring("runs=".length()));
+            } else if (!arg.isBlank()) {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        StartupBenchmark benchmark = new StartupBenchmark(
+                Path.of(System.getProperty("startup.dir", "target/startup")),
+                System.getProperty("startup.h2"));
+        benchmark.run(runs);
+    }
+
+    private void run(int runs) throws IOException, InterruptedException {
+        String archive = startupDir.resolve("splitspend.jsa").toString();
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("default", List.of("-Dsplitspend.startup.lazy-packages="));
+        configurations.put("+ lazy springdoc", List.of());
+        configurations.put("+ AOT", List.of("-Dspring.aot.enabled=true"));
+        configurations.put("+ CDS archive", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive));
+
+        Map<String, long[]> samples = new LinkedHashMap<>();
+        configurations.keySet().forEach(name -> samples.put(name, new long[runs]));
+
+        for (int run = 0; run < runs; run++) {
+            for (Map.Entry<String, List<String>> configuration : configurations.entrySet()) {
+                long millis = timeToFirstRequest(configuration.getKey(), run, configuration.getValue());
+                samples.get(configuration.getKey())[run] = millis;
+                System.out.printf("run %d  %-18s %6d ms%n", run + 1, configuration.getKey(), millis);
+            }
+        }
+
+        long baseline = median(samples.get("default"));
+        System.out.printf("%n== time to first request (%d runs) ==%n", runs);
+        System.out.printf("%-18s %10s %10s %10s%n", "configuration", "median ms", "min ms", "vs default");
+        samples.forEach((name, values) -> System.out.printf("%-18s %10d %10d %9.0f%%%n",
+                name, median(values), Arrays.stream(values).min().orElse(0),
+                100.0 * (median(values) - baseline) / baseline));
+    }
+
+    private long timeToFirstRequest(String configuration, int run, List<String> jvmOptions)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        // the startup jar comes first so the CDS archive's classpath is a prefix of this one
+        command.addAll(List.of(
+                "-cp", startupDir.resolve("splitspend.jar") + File.pathSeparator + h2Jar,
+                SplitSpendApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+
+        String logName = configuration.replaceAll("[^A-Za-z]+", "-").replaceAll("^-|-$", "");
+        File log = startupDir.resolve("benchmark-" + logName + "-" + (run + 1) + ".log").toFile();
+        HttpRequest firstRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/groups"))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            while (System.nanoTime() - started < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(configuration + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (client.send(firstRequest, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - started).toMillis();
+                    }
+                } catch (IOException notListeningYet) {
+                    // the connector is not up yet
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            throw new IllegalStateException(configuration + " did not answer within " + STARTUP_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,48 @@
+package com.tejas.splitspend.auth;
+
+import com.tejas.splitspend.auth.dto.RefreshTokenRequestDto;
+import com.tejas.splitspend.auth.dto.TokenResponseDto;
+import com.tejas.splitspend.auth.exceptions.InvalidTokenException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/auth")
+public class AuthController {
+
+    private final TokenService tokenService;
+
+    public AuthController(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    /** Trade a refresh token for a new token pair (the old refresh token stops working). */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto requestDto) {
+        return ResponseEntity.ok(tokenService.refresh(requestDto.refreshToken()));
+    }
+
+    /** Revoke the refresh token and the bearer access token, if one was sent. */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequestDto requestDto,
+                                       HttpServletRequest request) {
+        tokenService.revoke(requestDto.refreshToken(), TokenAuthenticationFilter.bearerToken(request));
+        return ResponseEntity.noContent().build();
+    }
+
+    /** The caller's identity, straight from the access token. */
+    @GetMapping("/me")
+    public ResponseEntity<AuthenticatedUser> me(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            throw new InvalidTokenException("Authentication required");
+        }
+        return ResponseEntity.ok(user);
+    }
+}
@@ -0,0 +1,15 @@
+package com.tejas.splitspend.auth;
+
+import java.util.Set;
+
+/*
+ * Identity of the caller, taken entirely from a verified access token.
+ * groupIds are the memberships at the time the token was issued - at most one
+ * access-token lifetime stale; a refresh picks up new ones.
+ */
+public record AuthenticatedUser(Long userId, Set<Long> groupIds) {
+
+    public boolean isMemberOf(Long groupId) {
+        return groupIds.contains(groupId);
+    }
+}
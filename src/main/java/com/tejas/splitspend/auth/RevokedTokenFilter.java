@@ -0,0 +1,122 @@
+package com.tejas.splitspend.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Bloom filter of token ids (jti) revoked by logout.
+ *
+ * Checked on every authenticated request, so lookups are lock-free bit reads and memory stays
+ * fixed no matter how many tokens are revoked. A false positive rejects a valid token (the
+ * client logs in again); there are no false negatives, so a revoked token is never accepted.
+ *
+ * Token ids only need remembering until their token expires, so the filter is generational:
+ * ids go into the current generation, lookups check current and previous, and the previous
+ * one is dropped every retention period. An id therefore stays for at least one full period,
+ * which is set to the longest token lifetime.
+ *
+ * Sized for logouts only (splitspend.token.revocation.expected-revocations per retention period);
+ * refreshes are tracked exactly by UsedRefreshTokens, since their volume would fill the filter.
+ *
+ * Revocations are held in memory per instance: another instance still accepts a token revoked
+ * here, and a restart forgets them all until the revoked tokens expire.
+ */
+class RevokedTokenFilter {
+
+    private final int bits;
+    private final int hashes;
+    private final long retentionMillis;
+    private final Clock clock;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    RevokedTokenFilter(int expectedRevocations, double falsePositiveRate, Duration retention, Clock clock) {
+        // standard sizing: m = -n ln p / (ln 2)^2 bits and k = (m / n) ln 2 hash functions
+        int n = Math.max(expectedRevocations, 1);
+        this.bits = (int) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        this.retentionMillis = retention.toMillis();
+        this.clock = clock;
+        this.current = new Generation(bits, clock.millis());
+        this.previous = new Generation(bits, clock.millis());
+    }
+
+    void revoke(String tokenId) {
+        rotateIfDue();
+        long[] hash = hash(tokenId);
+        Generation generation = current;
+        for (int i = 0; i < hashes; i++) {
+            generation.set(index(hash, i));
+        }
+    }
+
+    boolean mightBeRevoked(String tokenId) {
+        rotateIfDue();
+        long[] hash = hash(tokenId);
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    private boolean contains(Generation generation, long[] hash) {
+        for (int i = 0; i < hashes; i++) {
+            if (!generation.get(index(hash, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rotateIfDue() {
+        long now = clock.millis();
+        if (now - current.startedAtMillis < retentionMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (now - current.startedAtMillis >= retentionMillis) {
+                previous = current;
+                current = new Generation(bits, now);
+            }
+        }
+    }
+
+    // Kirsch-Mitzenmacher double hashing: index i = h1 + i * h2
+    private int index(long[] hash, int i) {
+        return (int) Math.floorMod(hash[0] + i * hash[1], (long) bits);
+    }
+
+    // Token ids are random UUIDs, so their two halves already are independent uniform hashes
+    private static long[] hash(String tokenId) {
+        try {
+            UUID uuid = UUID.fromString(tokenId);
+            return new long[]{uuid.getMostSignificantBits(), uuid.getLeastSignificantBits() | 1};
+        } catch (IllegalArgumentException ex) {
+            long h = tokenId.hashCode() * 0x9E3779B97F4A7C15L;
+            return new long[]{h, Long.rotateLeft(h, 32) | 1};
+        }
+    }
+
+    private static final class Generation {
+        private final AtomicLongArray words;
+        private final long startedAtMillis;
+
+        Generation(int bits, long startedAtMillis) {
+            this.words = new AtomicLongArray((bits + 63) / 64);
+            this.startedAtMillis = startedAtMillis;
+        }
+
+        void set(int bit) {
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long value;
+            do {
+                value = words.get(word);
+            } while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask));
+        }
+
+        boolean get(int bit) {
+            return (words.get(bit >>> 6) & (1L << bit)) != 0;
+        }
+    }
+}
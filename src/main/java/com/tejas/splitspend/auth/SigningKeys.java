@@ -0,0 +1,89 @@
+package com.tejas.splitspend.auth;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Rotating HMAC signing keys.
+ *
+ * Time is cut into rotation periods; the key for period n is HMAC-SHA256(secret, n) and its
+ * key id is n. Every instance sharing the secret derives the same keys, so rotation needs no
+ * coordination and a new instance can verify tokens signed before it started. A key stays
+ * accepted for as long as a token it signed can live (the longest token lifetime), then its
+ * id is refused outright.
+ */
+class SigningKeys {
+
+    static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec secret;
+    private final long rotationMillis;
+    private final long acceptedPeriods;
+    private final Clock clock;
+    private final Map<Long, SecretKeySpec> derived = new ConcurrentHashMap<>();
+
+    SigningKeys(byte[] secret, Duration rotation, Duration longestTokenLifetime, Clock clock) {
+        this.secret = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.rotationMillis = rotation.toMillis();
+        // one extra period: a token signed just before a rotation lives on into the next one
+        this.acceptedPeriods = Math.ceilDiv(longestTokenLifetime.toMillis(), rotationMillis) + 1;
+        this.clock = clock;
+    }
+
+    record SigningKey(String keyId, SecretKeySpec key) {
+    }
+
+    SigningKey current() {
+        long period = currentPeriod();
+        return new SigningKey(Long.toString(period), key(period));
+    }
+
+    /*
+     * Key for a token's key id, empty if the id is malformed, from the future or retired.
+     */
+    Optional<SecretKeySpec> forKeyId(String keyId) {
+        long period;
+        try {
+            period = Long.parseLong(keyId);
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+        long current = currentPeriod();
+        if (period > current || current - period > acceptedPeriods) {
+            return Optional.empty();
+        }
+        return Optional.of(key(period));
+    }
+
+    private long currentPeriod() {
+        return clock.millis() / rotationMillis;
+    }
+
+    private SecretKeySpec key(long period) {
+        SecretKeySpec key = derived.get(period);
+        if (key == null) {
+            key = new SecretKeySpec(hmac(Long.toString(period)), HMAC_ALGORITHM);
+            derived.put(period, key);
+            long oldest = currentPeriod() - acceptedPeriods;
+            derived.keySet().removeIf(p -> p < oldest);
+        }
+        return key;
+    }
+
+    private byte[] hmac(String data) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secret);
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.tejas.splitspend.auth;
+
+import com.tejas.splitspend.auth.exceptions.InvalidTokenException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.List;
+
+/*
+ * Authenticates "Authorization: Bearer <access token>" requests from the token alone.
+ * Requests without the header pass through unauthenticated; a bad token is answered
+ * with 401 through GlobalExceptionHandler, like any other error.
+ *
+ * Registered by SecurityConfig inside the security filter chain, not as a component,
+ * so it does not also run as a plain servlet filter.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public TokenAuthenticationFilter(TokenService tokenService, HandlerExceptionResolver exceptionResolver) {
+        this.tokenService = tokenService;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = bearerToken(request);
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AuthenticatedUser user;
+        try {
+            user = tokenService.authenticate(token);
+        } catch (InvalidTokenException ex) {
+            exceptionResolver.resolveException(request, response, null, ex);
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(user, token, List.of()));
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+
+    static String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
@@ -0,0 +1,20 @@
+package com.tejas.splitspend.auth;
+
+import java.util.List;
+
+/*
+ * What a token says. Refresh tokens carry no group ids.
+ * Times are epoch seconds, as in JWT.
+ */
+record TokenClaims(
+        TokenType type,
+        Long userId,
+        List<Long> groupIds,
+        String tokenId,
+        long issuedAt,
+        long expiresAt) {
+
+    enum TokenType {
+        ACCESS, REFRESH
+    }
+}
@@ -0,0 +1,163 @@
+package com.tejas.splitspend.auth;
+
+import com.tejas.splitspend.auth.dto.TokenResponseDto;
+import com.tejas.splitspend.auth.exceptions.InvalidTokenException;
+import com.tejas.splitspend.group.GroupService;
+import com.tejas.splitspend.group.dto.UserGroupDto;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * Issues and verifies signed bearer tokens.
+ *
+ * Access tokens are short-lived and carry the user id and group memberships, so an
+ * authenticated request needs no database lookup for identity: a cache hit costs one map
+ * lookup plus the revocation check, a miss adds the HMAC check and JSON parse.
+ * Refresh tokens are long-lived, single use (UsedRefreshTokens remembers each one traded in)
+ * and are the only path that reads memberships again.
+ *
+ * Used refresh tokens and logouts are remembered in memory per instance. Behind a load balancer
+ * a replayed or logged-out token is only rejected by the instance that saw it, and a restart
+ * forgets both until the tokens expire.
+ */
+@Service
+@Timed("splitspend.service")
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private final GroupService groupService;
+    private final TokenSigner signer;
+    private final TokenVerificationCache verificationCache;
+    private final RevokedTokenFilter revokedTokens;
+    private final UsedRefreshTokens usedRefreshTokens;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(GroupService groupService,
+                        @Value("${splitspend.token.secret:}") String secret,
+                        @Value("${splitspend.token.access-ttl:15m}") Duration accessTtl,
+                        @Value("${splitspend.token.refresh-ttl:14d}") Duration refreshTtl,
+                        @Value("${splitspend.token.key-rotation:1h}") Duration keyRotation,
+                        @Value("${splitspend.token.verification-cache.max-size:10000}") int cacheMaxSize,
+                        @Value("${splitspend.token.revocation.expected-revocations:100000}") int expectedRevocations) {
+        this(groupService, secretBytes(secret), accessTtl, refreshTtl, keyRotation,
+                cacheMaxSize, expectedRevocations, Clock.systemUTC());
+    }
+
+    TokenService(GroupService groupService, byte[] secret, Duration accessTtl, Duration refreshTtl,
+                 Duration keyRotation, int cacheMaxSize, int expectedRevocations, Clock clock) {
+        this.groupService = groupService;
+        this.signer = new TokenSigner(new SigningKeys(secret, keyRotation, refreshTtl, clock));
+        this.verificationCache = new TokenVerificationCache(cacheMaxSize, clock);
+        this.revokedTokens = new RevokedTokenFilter(expectedRevocations, 0.001, refreshTtl, clock);
+        this.usedRefreshTokens = new UsedRefreshTokens(clock);
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+        this.clock = clock;
+    }
+
+    /*
+     * New token pair for a user who just proved who they are (login) or holds a valid refresh token.
+     */
+    public TokenResponseDto issue(Long userId) {
+        List<Long> groupIds = groupService.getUserGroups(userId).groups().stream()
+                .map(UserGroupDto::groupId)
+                .toList();
+        long now = clock.instant().getEpochSecond();
+
+        String accessToken = signer.encode(new TokenClaims(TokenClaims.TokenType.ACCESS, userId, groupIds,
+                UUID.randomUUID().toString(), now, now + accessTtl.toSeconds()));
+        String refreshToken = signer.encode(new TokenClaims(TokenClaims.TokenType.REFRESH, userId, List.of(),
+                UUID.randomUUID().toString(), now, now + refreshTtl.toSeconds()));
+        return TokenResponseDto.bearer(accessToken, refreshToken, accessTtl.toSeconds());
+    }
+
+    /*
+     * Trade a refresh token for a new pair. The old refresh token is marked used, so a replayed
+     * copy of it is rejected - also when the replay races the original: only the request
+     * that marks the token first gets a new pair.
+     */
+    public TokenResponseDto refresh(String refreshToken) {
+        TokenClaims claims = verify(refreshToken, TokenClaims.TokenType.REFRESH);
+        if (!usedRefreshTokens.markUsed(claims.tokenId(), claims.expiresAt())) {
+            throw new InvalidTokenException("Token has been revoked");
+        }
+        return issue(claims.userId());
+    }
+
+    /*
+     * Identity behind an access token - no database access.
+     */
+    public AuthenticatedUser authenticate(String accessToken) {
+        TokenClaims claims = verify(accessToken, TokenClaims.TokenType.ACCESS);
+        return new AuthenticatedUser(claims.userId(), Set.copyOf(claims.groupIds()));
+    }
+
+    /*
+     * Logout: revoke the refresh token and, when given, the access token in use.
+     * Both must belong to the same user.
+     */
+    public void revoke(String refreshToken, String accessToken) {
+        TokenClaims refresh = verify(refreshToken, TokenClaims.TokenType.REFRESH);
+        if (accessToken != null) {
+            TokenClaims access = verify(accessToken, TokenClaims.TokenType.ACCESS);
+            if (!access.userId().equals(refresh.userId())) {
+                throw new InvalidTokenException("Tokens belong to different users");
+            }
+            revokedTokens.revoke(access.tokenId());
+        }
+        revokedTokens.revoke(refresh.tokenId());
+        log.info("Revoked tokens for user ID: {}", refresh.userId());
+    }
+
+    private TokenClaims verify(String token, TokenClaims.TokenType expectedType) {
+        TokenClaims claims = verificationCache.get(token).orElse(null);
+        if (claims == null) {
+            claims = signer.decode(token);
+            if (claims.expiresAt() <= clock.instant().getEpochSecond()) {
+                throw new InvalidTokenException("Token has expired");
+            }
+            if (claims.type() == TokenClaims.TokenType.ACCESS) {
+                verificationCache.put(token, claims);
+            }
+        }
+        if (claims.type() != expectedType) {
+            throw new InvalidTokenException("Expected a " + expectedType.name().toLowerCase(Locale.ROOT) + " token");
+        }
+        if (revokedTokens.mightBeRevoked(claims.tokenId())) {
+            throw new InvalidTokenException("Token has been revoked");
+        }
+        return claims;
+    }
+
+    private static byte[] secretBytes(String secret) {
+        if (!secret.isBlank()) {
+            byte[] decoded = Base64.getDecoder().decode(secret);
+            if (decoded.length < 32) {
+                throw new IllegalStateException("splitspend.token.secret must be at least 32 bytes (base64)");
+            }
+            return decoded;
+        }
+        log.warn("splitspend.token.secret is not set - using a random signing secret; tokens will not "
+                + "survive a restart or verify on other instances");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,123 @@
+package com.tejas.splitspend.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tejas.splitspend.auth.exceptions.InvalidTokenException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * Compact JWS (JWT, HS256) encoding of TokenClaims, signed with SigningKeys.
+ * Standard claims (sub, jti, iat, exp) plus "typ" (access/refresh) and "gid" (group ids),
+ * so any JWT library can read the tokens given the key.
+ */
+class TokenSigner {
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    private final SigningKeys signingKeys;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    TokenSigner(SigningKeys signingKeys) {
+        this.signingKeys = signingKeys;
+    }
+
+    String encode(TokenClaims claims) {
+        SigningKeys.SigningKey signingKey = signingKeys.current();
+
+        ObjectNode header = objectMapper.createObjectNode()
+                .put("alg", "HS256")
+                .put("typ", "JWT")
+                .put("kid", signingKey.keyId());
+        ObjectNode payload = objectMapper.createObjectNode()
+                .put("typ", claims.type().name().toLowerCase(Locale.ROOT))
+                .put("sub", claims.userId().toString())
+                .put("jti", claims.tokenId())
+                .put("iat", claims.issuedAt())
+                .put("exp", claims.expiresAt());
+        if (claims.type() == TokenClaims.TokenType.ACCESS) {
+            ArrayNode groupIds = payload.putArray("gid");
+            claims.groupIds().forEach(groupIds::add);
+        }
+
+        String signingInput = base64Json(header) + "." + base64Json(payload);
+        return signingInput + "." + BASE64.encodeToString(sign(signingInput, signingKey.key()));
+    }
+
+    /*
+     * Claims of a correctly signed token. Expiry and revocation are the caller's business.
+     */
+    TokenClaims decode(String token) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot || lastDot == token.length() - 1) {
+            throw malformed();
+        }
+        try {
+            JsonNode header = objectMapper.readTree(BASE64_DECODER.decode(token.substring(0, firstDot)));
+            // pinning the algorithm rules out "alg": "none" and algorithm-confusion tricks
+            if (!"HS256".equals(header.path("alg").asText())) {
+                throw malformed();
+            }
+            SecretKeySpec key = signingKeys.forKeyId(header.path("kid").asText())
+                    .orElseThrow(() -> new InvalidTokenException("Token signing key is unknown or retired"));
+
+            String signingInput = token.substring(0, lastDot);
+            byte[] signature = BASE64_DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(signature, sign(signingInput, key))) {
+                throw new InvalidTokenException("Token signature is invalid");
+            }
+
+            JsonNode payload = objectMapper.readTree(BASE64_DECODER.decode(token.substring(firstDot + 1, lastDot)));
+            TokenClaims.TokenType type = TokenClaims.TokenType.valueOf(
+                    payload.path("typ").asText().toUpperCase(Locale.ROOT));
+            List<Long> groupIds = new ArrayList<>();
+            payload.path("gid").forEach(groupId -> groupIds.add(groupId.asLong()));
+            return new TokenClaims(
+                    type,
+                    Long.valueOf(payload.path("sub").asText()),
+                    List.copyOf(groupIds),
+                    payload.path("jti").asText(),
+                    payload.path("iat").asLong(),
+                    payload.path("exp").asLong());
+        } catch (IllegalArgumentException | IOException ex) {
+            // bad base64, bad JSON, unknown type or non-numeric subject
+            throw malformed();
+        }
+    }
+
+    private String base64Json(ObjectNode node) {
+        try {
+            return BASE64.encodeToString(objectMapper.writeValueAsBytes(node));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialise token", ex);
+        }
+    }
+
+    private static byte[] sign(String signingInput, SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(SigningKeys.HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+
+    private static InvalidTokenException malformed() {
+        return new InvalidTokenException("Token is malformed");
+    }
+}
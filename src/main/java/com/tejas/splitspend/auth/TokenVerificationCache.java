@@ -0,0 +1,68 @@
+package com.tejas.splitspend.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Claims of access tokens that already passed signature verification, keyed by the token itself.
+ * A client sends the same token on every request until it expires, so a hit skips the HMAC
+ * and both JSON parses. Entries live until their token's own expiry. Revocation is not cached -
+ * TokenService checks it on every request.
+ *
+ * Bounded by size (Caffeine, so the per-request lookup takes no shared lock).
+ */
+class TokenVerificationCache {
+
+    private final int maxSize;
+    private final Cache<String, TokenClaims> entries;
+
+    TokenVerificationCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /*
+     * Cached claims for the token, empty if absent or expired.
+     */
+    Optional<TokenClaims> get(String token) {
+        return Optional.ofNullable(entries.getIfPresent(token));
+    }
+
+    void put(String token, TokenClaims claims) {
+        if (maxSize <= 0) {
+            return;
+        }
+        entries.put(token, claims);
+    }
+
+    /*
+     * The ticker reads the clock as epoch nanos, so the time left is the token's expiry minus now.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String token, TokenClaims claims, long currentTime) {
+            return Math.max(TimeUnit.SECONDS.toNanos(claims.expiresAt()) - currentTime, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
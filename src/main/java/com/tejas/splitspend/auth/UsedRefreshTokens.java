@@ -0,0 +1,60 @@
+package com.tejas.splitspend.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Ids (jti) of refresh tokens that were already traded in, which is what makes them single use.
+ *
+ * Every refresh lands here, so unlike logouts (RevokedTokenFilter) this is an exact set: a
+ * Bloom filter sized for logouts would fill up within a day of refreshes and start rejecting
+ * valid tokens. An id is kept until its token expires - after that the signature check rejects
+ * the token anyway - so the set holds at most one entry per refresh in the last refresh-ttl and
+ * is deliberately not bounded by size: evicting an id early would make its token reusable.
+ *
+ * Held per instance, like RevokedTokenFilter.
+ */
+class UsedRefreshTokens {
+
+    private final Cache<String, Long> used;
+
+    UsedRefreshTokens(Clock clock) {
+        this.used = Caffeine.newBuilder()
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /*
+     * Test-and-set: of concurrent calls for one id exactly one returns true.
+     */
+    boolean markUsed(String tokenId, long expiresAtEpochSecond) {
+        return used.asMap().putIfAbsent(tokenId, expiresAtEpochSecond) == null;
+    }
+
+    /*
+     * The ticker reads the clock as epoch nanos, so the time left is the token's expiry minus now.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String tokenId, Long expiresAt, long currentTime) {
+            return Math.max(TimeUnit.SECONDS.toNanos(expiresAt) - currentTime, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenId, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
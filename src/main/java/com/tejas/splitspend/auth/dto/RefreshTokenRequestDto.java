@@ -0,0 +1,8 @@
+package com.tejas.splitspend.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDto(
+        @NotBlank(message = "Refresh token is required")
+        String refreshToken) {
+}
@@ -0,0 +1,15 @@
+package com.tejas.splitspend.auth.dto;
+
+/*
+ * Access + refresh token pair. expiresIn is the access token's lifetime in seconds.
+ */
+public record TokenResponseDto(
+        String accessToken,
+        String refreshToken,
+        String tokenType,
+        long expiresIn) {
+
+    public static TokenResponseDto bearer(String accessToken, String refreshToken, long expiresIn) {
+        return new TokenResponseDto(accessToken, refreshToken, "Bearer", expiresIn);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tejas.splitspend.auth.exceptions;
+
+public class AuthException extends RuntimeException {
+    public AuthException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tejas.splitspend.auth.exceptions;
+
+public class InvalidTokenException extends AuthException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.tejas.splitspend.common;
+
+import org.hibernate.SessionEventListener;
+
+/*
+ * Feeds second-level cache lookups into RequestQueryStats.
+ * Hibernate instantiates one per session (hibernate.session.events.auto), hence the public no-arg class.
+ */
+public class CacheStatsSessionListener implements SessionEventListener {
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestQueryStats.cacheGet(hit);
+    }
+}
@@ -0,0 +1,86 @@
+package com.tejas.splitspend.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Retries @RetryOnConflict methods that fail with a ConcurrencyFailureException
+ * (optimistic lock conflicts, deadlock victims, lock acquisition timeouts).
+ *
+ * Ordered just ahead of the transaction interceptor, so every attempt runs in its own
+ * transaction and re-reads current state. When the method joins a transaction that was
+ * already open, retrying would reuse the rolled-back one, so the failure is passed on.
+ *
+ * Backoff is exponential with full jitter (random delay up to the current cap), which keeps
+ * writers contending for the same row from retrying in lockstep. Each conflict is counted in
+ * "splitspend.optimistic.conflicts", tagged with the method and whether it was retried or
+ * the attempts ran out.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflictRetryAspect.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public ConflictRetryAspect(MeterRegistry meterRegistry,
+                               @Value("${splitspend.conflict-retry.max-attempts:4}") int maxAttempts,
+                               @Value("${splitspend.conflict-retry.initial-backoff:10ms}") Duration initialBackoff,
+                               @Value("${splitspend.conflict-retry.max-backoff:200ms}") Duration maxBackoff) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.initialBackoffMillis = Math.max(initialBackoff.toMillis(), 1);
+        this.maxBackoffMillis = Math.max(maxBackoff.toMillis(), this.initialBackoffMillis);
+    }
+
+    @Around("@annotation(com.tejas.splitspend.common.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+
+        long backoffCap = initialBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    count(method, "exhausted");
+                    log.warn("{} lost {} concurrent write conflicts in a row, giving up", method, attempt);
+                    throw ex;
+                }
+                count(method, "retried");
+                long delay = ThreadLocalRandom.current().nextLong(backoffCap + 1);
+                log.debug("{} hit a concurrent write conflict (attempt {}), retrying in {} ms",
+                        method, attempt, delay);
+                Thread.sleep(delay);
+                backoffCap = Math.min(backoffCap * 2, maxBackoffMillis);
+            }
+        }
+    }
+
+    private void count(String method, String outcome) {
+        meterRegistry.counter("splitspend.optimistic.conflicts", "method", method, "outcome", outcome)
+                .increment();
+    }
+}
@@ -0,0 +1,33 @@
+package com.tejas.splitspend.common;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/*
+ * Identifies which named database constraint a DataIntegrityViolationException came from.
+ *
+ * Lets services rely on unique constraints instead of exists-then-insert checks and still
+ * raise the matching domain exception. Prefers the constraint name Hibernate extracted and
+ * falls back to the driver message, since MySQL and H2 report names differently.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean isViolationOf(DataIntegrityViolationException ex, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+
+        Throwable cause = ex.getCause();
+        if (cause instanceof ConstraintViolationException hibernateViolation
+                && hibernateViolation.getConstraintName() != null
+                && hibernateViolation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected)) {
+            return true;
+        }
+
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(expected);
+    }
+}
@@ -1,10 +1,19 @@
 package com.tejas.splitspend.common;
 
+import com.tejas.splitspend.auth.exceptions.InvalidTokenException;
+import com.tejas.splitspend.expense.exceptions.InvalidExpenseException;
 import com.tejas.splitspend.group.exceptions.GroupMemberDuplicateException;
 import com.tejas.splitspend.group.exceptions.GroupNotFoundException;
+import com.tejas.splitspend.idempotency.exceptions.IdempotencyKeyInUseException;
+import com.tejas.splitspend.idempotency.exceptions.IdempotencyKeyReusedException;
+import com.tejas.splitspend.idempotency.exceptions.IdempotentRequestTooLargeException;
+import com.tejas.splitspend.idempotency.exceptions.InvalidIdempotencyKeyException;
 import com.tejas.splitspend.user.exceptions.EmailAlreadyExistsException;
 import com.tejas.splitspend.user.exceptions.InvalidCredentialsException;
+import com.tejas.splitspend.user.exceptions.PasswordHashingUnavailableException;
 import com.tejas.splitspend.user.exceptions.PhoneNumberAlreadyExistsException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -94,6 +103,44 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
+    /**
+     * Handle missing, malformed, expired or revoked tokens - 401 Unauthorized
+     */
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidToken(
+            InvalidTokenException ex) {
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.UNAUTHORIZED.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .body(response);
+    }
+
+    /**
+     * Handle saturated password hashing pool - 503 Service Unavailable
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailable(
+            PasswordHashingUnavailableException ex) {
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     @ExceptionHandler(GroupNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleGroupNotFound(
             GroupNotFoundException ex) {
@@ -122,6 +169,112 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    /**
+     * Handle invalid expense (bad splits, non-members) - 400 Bad Request
+     */
+    @ExceptionHandler(InvalidExpenseException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidExpense(
+            InvalidExpenseException ex) {
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    /**
+     * Handle malformed Idempotency-Key header - 400 Bad Request
+     */
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKey(
+            InvalidIdempotencyKeyException ex) {
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    /**
+     * Handle retry while the original request is still running - 409 Conflict
+     */
+    @ExceptionHandler(IdempotencyKeyInUseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInUse(
+            IdempotencyKeyInUseException ex) {
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    /**
+     * Handle Idempotency-Key reused with a different body - 422 Unprocessable Entity
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(
+            IdempotencyKeyReusedException ex) {
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
+
+    /**
+     * Handle an Idempotency-Key request whose body is over the limit - 413 Content Too Large
+     */
+    @ExceptionHandler(IdempotentRequestTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotentRequestTooLarge(
+            IdempotentRequestTooLargeException ex) {
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+
+    /**
+     * Handle a write that kept losing optimistic-lock races - 409 Conflict
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailure(
+            ConcurrencyFailureException ex) {
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "The resource was modified concurrently, please retry",
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     /**
      * Catch-all for unexpected errors
      */
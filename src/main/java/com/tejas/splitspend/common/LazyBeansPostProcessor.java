@@ -0,0 +1,67 @@
+package com.tejas.splitspend.common;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/*
+ * Marks beans from the given packages lazy, so they are built on first use instead of at startup.
+ * Meant for beans no request path needs until someone asks for them (e.g. springdoc's
+ * OpenAPI endpoints) - everything else stays eager so wiring errors still fail the boot.
+ *
+ * A bean counts as "from" a package when its class, or the configuration class declaring
+ * its @Bean method, lives there. Beans that do their work in a startup callback stay eager -
+ * deferring them changes behaviour, not just timing (springdoc's SpringDocUIConfiguration
+ * resolves the swagger-ui version that way). With Spring AOT the lazy flags are fixed at build time.
+ */
+class LazyBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packages;
+
+    LazyBeansPostProcessor(List<String> packages) {
+        this.packages = packages.stream()
+                .filter(name -> !name.isBlank())
+                .map(name -> name.endsWith(".") ? name : name + ".")
+                .toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (packages.isEmpty()) {
+            return;
+        }
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (inLazyPackage(sourceClassName(beanFactory, definition))
+                    && !hasStartupCallback(beanFactory, definition.getBeanClassName())) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private String sourceClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+
+    private boolean hasStartupCallback(ConfigurableListableBeanFactory beanFactory, String className) {
+        if (className == null || !ClassUtils.isPresent(className, beanFactory.getBeanClassLoader())) {
+            return false;
+        }
+        Class<?> beanClass = ClassUtils.resolveClassName(className, beanFactory.getBeanClassLoader());
+        return InitializingBean.class.isAssignableFrom(beanClass)
+                || SmartInitializingSingleton.class.isAssignableFrom(beanClass);
+    }
+
+    private boolean inLazyPackage(String className) {
+        return className != null && packages.stream().anyMatch(className::startsWith);
+    }
+}
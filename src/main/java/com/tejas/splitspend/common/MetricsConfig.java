@@ -0,0 +1,83 @@
+package com.tejas.splitspend.common;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/*
+ * Metrics wiring.
+ *
+ * - @Timed on services (class level) is backed by TimedAspect -> "splitspend.service" timers
+ *   tagged with class and method. Spring Data repositories are timed by Spring Boot itself
+ *   ("spring.data.repository.invocations").
+ * - Hibernate hooks count statements, entity loads, collection fetches and second-level
+ *   cache hits/misses into RequestQueryStats, which QueryBudgetFilter publishes per request.
+ *   The statement hook also feeds SampledSqlLogger (splitspend.sql-log.sample-rate).
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public QueryBudgetFilter queryBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${splitspend.query-budget.max-statements:20}") int maxStatements) {
+        return new QueryBudgetFilter(meterRegistry, maxStatements);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernateCustomizer(
+            @Value("${splitspend.sql-log.sample-rate:0}") double sqlLogSampleRate) {
+        SampledSqlLogger sqlLogger = new SampledSqlLogger(sqlLogSampleRate);
+        StatementInspector statementCounter = sql -> {
+            RequestQueryStats.statementPrepared();
+            sqlLogger.sample(sql);
+            return sql;
+        };
+        Integrator loadCounter = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata,
+                                  BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry listeners = sessionFactory.getServiceRegistry()
+                        .getService(EventListenerRegistry.class);
+                listeners.appendListeners(EventType.POST_LOAD,
+                        (PostLoadEventListener) event -> RequestQueryStats.entityLoaded());
+                listeners.appendListeners(EventType.INIT_COLLECTION,
+                        (InitializeCollectionEventListener) event -> RequestQueryStats.collectionFetched());
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                     SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, CacheStatsSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(loadCounter));
+        };
+    }
+}
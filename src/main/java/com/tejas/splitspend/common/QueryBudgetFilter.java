@@ -0,0 +1,78 @@
+package com.tejas.splitspend.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/*
+ * Publishes per-request Hibernate statistics and flags requests over the SQL statement budget.
+ *
+ * Summaries are tagged with method and uri pattern (e.g. /v1/groups/member/add), so an N+1
+ * regression shows up as a jump in splitspend.request.sql.statements for that endpoint.
+ * Registered in MetricsConfig rather than component-scanned, so web slice tests stay metrics-free.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry, int maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            publish(request, stats);
+        }
+    }
+
+    private void publish(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        summary("splitspend.request.sql.statements", tags).record(stats.getStatements());
+        summary("splitspend.request.entity.loads", tags).record(stats.getEntityLoads());
+        summary("splitspend.request.collection.fetches", tags).record(stats.getCollectionFetches());
+        summary("splitspend.request.cache.hits", tags).record(stats.getCacheHits());
+        summary("splitspend.request.cache.misses", tags).record(stats.getCacheMisses());
+
+        if (stats.getStatements() > maxStatements) {
+            Counter.builder("splitspend.request.query.budget.exceeded")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} issued {} SQL statements (budget {}): {} entity loads, {} collection fetches, "
+                            + "{} cache hits, {} cache misses",
+                    request.getMethod(), uri, stats.getStatements(), maxStatements,
+                    stats.getEntityLoads(), stats.getCollectionFetches(),
+                    stats.getCacheHits(), stats.getCacheMisses());
+        }
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
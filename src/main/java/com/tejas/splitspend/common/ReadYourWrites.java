@@ -0,0 +1,37 @@
+package com.tejas.splitspend.common;
+
+/*
+ * Whether the current HTTP request has used the primary database yet.
+ *
+ * Once it has, later read-only transactions in the same request also go to the primary
+ * (see ReplicaRoutingDataSource), so a request never reads a replica that has not caught
+ * up with its own write - e.g. login updating a password hash, then loading memberships
+ * for the token. Opened and closed by ReadYourWritesFilter; outside a request nothing is
+ * pinned and read-only work always goes to the replica.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private boolean pinnedToPrimary;
+
+    static void begin() {
+        CURRENT.set(new ReadYourWrites());
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void primaryUsed() {
+        ReadYourWrites current = CURRENT.get();
+        if (current != null) {
+            current.pinnedToPrimary = true;
+        }
+    }
+
+    static boolean pinnedToPrimary() {
+        ReadYourWrites current = CURRENT.get();
+        return current != null && current.pinnedToPrimary;
+    }
+}
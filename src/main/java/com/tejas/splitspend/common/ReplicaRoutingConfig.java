@@ -0,0 +1,85 @@
+package com.tejas.splitspend.common;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/*
+ * Read-replica routing, active when splitspend.datasource.replica.url is set.
+ *
+ * - primaryDataSource: spring.datasource.* (pool settings under spring.datasource.hikari),
+ *   also the one Flyway migrates.
+ * - replicaDataSource: splitspend.datasource.replica.url, username and password (defaulting
+ *   to the primary's), pool settings under splitspend.datasource.replica.hikari.
+ * - dataSource (@Primary, used by JPA and JdbcTemplate): LazyConnectionDataSourceProxy over
+ *   ReplicaRoutingDataSource.
+ *
+ * Hibernate is switched to release its connection after each transaction. By default it holds
+ * one for the whole session, and with open-in-view a request would reuse whichever pool its
+ * first transaction picked - including sending a write to the replica.
+ *
+ * Without the property, Spring Boot's single DataSource is used as before.
+ *
+ * Under Spring AOT (the startup profile) the condition is evaluated once, at build time, so a
+ * jar built without the property never routes and one built with it always does - setting or
+ * clearing the URL at runtime does not switch routing. Only the URL itself is read at runtime.
+ */
+@Configuration
+@ConditionalOnProperty("splitspend.datasource.replica.url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("splitspend.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${splitspend.datasource.replica.url}") String url,
+            @Value("${splitspend.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${splitspend.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
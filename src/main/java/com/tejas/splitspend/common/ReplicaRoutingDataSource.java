@@ -0,0 +1,36 @@
+package com.tejas.splitspend.common;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/*
+ * Sends connections for @Transactional(readOnly = true) work to the replica and everything
+ * else to the primary, unless the current request already used the primary (ReadYourWrites).
+ *
+ * The read-only flag is only known once the transaction has started, so this must sit behind
+ * a LazyConnectionDataSourceProxy, which defers fetching the connection to the first statement.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWrites.pinnedToPrimary()) {
+            return Target.REPLICA;
+        }
+        ReadYourWrites.primaryUsed();
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,18 @@
+package com.tejas.splitspend.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * Re-runs a @Transactional service method in a fresh transaction when it loses a write race
+ * (optimistic lock conflict, deadlock victim, lock timeout). See ConflictRetryAspect.
+ *
+ * Only for methods that are safe to run again from the start - they must not have side
+ * effects outside the transaction.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,29 @@
+package com.tejas.splitspend.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Logs a random sample of executed SQL through the "splitspend.sql" logger.
+ *
+ * A cheap alternative to show-sql under load: enough statements to spot a bad query
+ * shape, without formatting and writing every statement to stdout.
+ */
+public class SampledSqlLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("splitspend.sql");
+
+    private final double sampleRate;
+
+    public SampledSqlLogger(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void sample(String sql) {
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.info("{}", sql);
+        }
+    }
+}
@@ -6,30 +6,67 @@ package com.tejas.splitspend.common;
  * Phase 1: Only using BCrypt for password hashing.
  * All endpoints are publicly accessible (no authentication required).
 
- * Phase 3 (Future): Will add JWT-based authentication.
+ * Phase 3: Bearer access tokens (see auth/TokenService) authenticate a request without a
+ * database lookup; a request with an invalid token is rejected. Endpoints are not yet
+ * restricted to authenticated callers, except the group export.
+ *
+ * GET /v1/groups/export dumps every group and its members, for admin tooling. It is denied
+ * unless splitspend.groups.export.enabled is set, and then still needs a bearer token. The flag
+ * is read when the filter chain is built, so it also works in an AOT-built jar.
  */
 
+import com.tejas.splitspend.auth.TokenAuthenticationFilter;
+import com.tejas.splitspend.auth.TokenService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            TokenService tokenService,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+            @Value("${splitspend.groups.export.enabled:false}") boolean exportEnabled) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService, exceptionResolver),
+                        UsernamePasswordAuthenticationFilter.class)
+                .authorizeHttpRequests(auth -> {
+                    // a streamed response finishes on an async dispatch, which the token filter skips;
+                    // the request was already authorized when it started
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+                    if (exportEnabled) {
+                        auth.requestMatchers(HttpMethod.GET, "/v1/groups/export").authenticated();
+                    } else {
+                        auth.requestMatchers(HttpMethod.GET, "/v1/groups/export").denyAll();
+                    }
+                    auth.anyRequest().permitAll();
+                });
         return http.build();
     }
 
+    /*
+     * Cost factor is configurable; hashes made with a lower cost are upgraded on the
+     * next successful login (see PasswordHasher.needsRehash).
+     */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(
+            @Value("${splitspend.security.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
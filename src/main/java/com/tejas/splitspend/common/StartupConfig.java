@@ -0,0 +1,27 @@
+package com.tejas.splitspend.common;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/*
+ * Startup wiring.
+ *
+ * - Beans from splitspend.startup.lazy-packages are created on first use (see LazyBeansPostProcessor).
+ * - The rest of the startup work lives in the build: the "startup" Maven profile adds Spring AOT
+ *   processing and a class-data-sharing archive, and StartupBenchmark measures the result.
+ */
+@Configuration
+public class StartupConfig {
+
+    // static: post-processors must be registered before any other bean is created
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        List<String> packages = List.of(environment.getProperty(
+                "splitspend.startup.lazy-packages", String[].class, new String[0]));
+        return new LazyBeansPostProcessor(packages);
+    }
+}
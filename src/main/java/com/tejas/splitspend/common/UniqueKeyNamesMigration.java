@@ -0,0 +1,115 @@
+package com.tejas.splitspend.common;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+ * V8: gives the unique keys that ConstraintViolations matches on the names V1 created them with.
+ *
+ * A database built by ddl-auto=update before Flyway is baselined at version 1 and never runs V1,
+ * so its unique keys may carry Hibernate-generated names (UK6dot...) or be missing entirely.
+ * Duplicate signups and member adds would then fail as 500s instead of the domain 409s.
+ * Each key is renamed when its columns already have a unique index under another name, and
+ * created when they have none; on a database built by V1 nothing changes. Creating a key fails
+ * if the table already holds duplicates - remove them and start again.
+ *
+ * Java rather than SQL because what to run depends on what the schema already has. Spring Boot
+ * hands JavaMigration beans to Flyway. Names are spelled out, not taken from the entities, so
+ * the migration keeps doing what it did when it was applied.
+ */
+@Component
+public class UniqueKeyNamesMigration implements JavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(UniqueKeyNamesMigration.class);
+
+    private static final List<UniqueKey> KEYS = List.of(
+            new UniqueKey("users", "uk_users_email", Set.of("email")),
+            new UniqueKey("users", "uk_users_phone_number", Set.of("phone_number")),
+            new UniqueKey("group_members", "uk_group_members_group_user", Set.of("group_id", "user_id")));
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("8");
+    }
+
+    @Override
+    public String getDescription() {
+        return "unique key names";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+
+        for (UniqueKey key : KEYS) {
+            Map<String, Set<String>> indexes = uniqueIndexes(connection, key.table());
+            // H2 names a constraint's index after it (uk_users_email_index_4), so match by prefix
+            if (indexes.keySet().stream().anyMatch(name -> name.startsWith(key.name()))) {
+                continue;
+            }
+            Optional<String> existing = indexes.entrySet().stream()
+                    .filter(index -> index.getValue().equals(key.columns()))
+                    .map(Map.Entry::getKey)
+                    .findFirst();
+            try (Statement statement = connection.createStatement()) {
+                if (existing.isPresent()) {
+                    log.info("Renaming unique key {} on {} to {}", existing.get(), key.table(), key.name());
+                    statement.execute(mysql
+                            ? "alter table " + key.table() + " rename index " + existing.get() + " to " + key.name()
+                            : "alter index " + existing.get() + " rename to " + key.name());
+                } else {
+                    log.info("Adding missing unique key {} on {}", key.name(), key.table());
+                    statement.execute("alter table " + key.table() + " add constraint " + key.name()
+                            + " unique (" + String.join(", ", key.columns()) + ")");
+                }
+            }
+        }
+    }
+
+    // unique index name -> its columns, names lower-cased
+    private static Map<String, Set<String>> uniqueIndexes(Connection connection, String table) throws SQLException {
+        Map<String, Set<String>> indexes = new HashMap<>();
+        try (ResultSet rows = connection.getMetaData()
+                .getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true, false)) {
+            while (rows.next()) {
+                String name = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (name != null && column != null) {
+                    indexes.computeIfAbsent(name.toLowerCase(Locale.ROOT), ignored -> new HashSet<>())
+                            .add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private record UniqueKey(String table, String name, Set<String> columns) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.tejas.splitspend.expense;
+
+import com.tejas.splitspend.group.Group;
+import com.tejas.splitspend.group.GroupMember;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * An expense paid by one group member and shared between members.
+ *
+ * Ledger semantics: an expense row is written once and never updated. Corrections are
+ * recorded as new expenses, so the table is an append-only audit trail.
+ *
+ *Relationships:
+ *   Expense → Group (Many-to-One, unidirectional - Group does not list its expenses)
+ *   Expense → GroupMember as payer (Many-to-One)
+ *   Expense → ExpenseSplit (One-to-Many, persisted together with the expense)
+ *
+ *Write Path:
+ *   Amounts are long minor units (paise/cents) - no BigDecimal on the hot path
+ *   Sequence ids with a pooled allocator so expense and split inserts are JDBC-batched
+ *   Writing an expense never updates Group or GroupMember rows, so concurrent writes
+ *   to different (or the same) groups do not contend on shared rows
+ *
+ *Storage:
+ *   (group_id, created_at) index serves "expenses of a group over time"
+ *   Not partitioned (out of scope for the Flyway migrations): MySQL needs the partition
+ *   column in every unique key and supports no foreign keys to or from a partitioned table,
+ *   so range-partitioning on created_at means a (expense_id, created_at) primary key and
+ *   dropping fk_expenses_* and fk_expense_splits_expense. That is a separate migration,
+ *   together with integrity checks in the service, once the table is large enough to need it
+ */
+
+@Getter
+@Entity
+@Immutable
+@Table(name = "expenses",
+        indexes = @Index(name = "idx_expenses_group_created", columnList = "group_id, created_at"))
+public class Expense {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expenses_seq")
+    @SequenceGenerator(name = "expenses_seq", sequenceName = "expenses_seq", allocationSize = 50)
+    private Long expenseId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false, updatable = false)
+    private Group group;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "paid_by_member_id", nullable = false, updatable = false)
+    private GroupMember paidBy;
+
+    /*
+     * Total amount in minor currency units.
+     */
+    @Column(nullable = false, updatable = false)
+    private long amountMinor;
+
+    @Column(nullable = false, updatable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false, updatable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private SplitType splitType;
+
+    @Column(nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    @OneToMany(mappedBy = "expense", cascade = CascadeType.PERSIST)
+    private List<ExpenseSplit> splits = new ArrayList<>();
+
+    public Expense(Group group, GroupMember paidBy, long amountMinor, String currency,
+                   String description, SplitType splitType) {
+        this.group = group;
+        this.paidBy = paidBy;
+        this.amountMinor = amountMinor;
+        this.currency = currency;
+        this.description = description;
+        this.splitType = splitType;
+    }
+
+    protected Expense() {
+    }
+
+    public void addSplit(GroupMember member, long shareMinor) {
+        splits.add(new ExpenseSplit(this, member, shareMinor));
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = ZonedDateTime.now();
+    }
+}
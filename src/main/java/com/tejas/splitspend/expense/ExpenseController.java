@@ -0,0 +1,40 @@
+package com.tejas.splitspend.expense;
+
+import com.tejas.splitspend.expense.dto.CreateExpenseDto;
+import com.tejas.splitspend.expense.dto.ExpenseResponseDto;
+import com.tejas.splitspend.expense.dto.GroupBalancesResponseDto;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/expenses")
+public class ExpenseController {
+    private final ExpenseService expenseService;
+
+    public ExpenseController(ExpenseService expenseService) {
+        this.expenseService = expenseService;
+    }
+
+    /**
+     * Record a new expense in a group.
+     */
+    @PostMapping("/create")
+    public ResponseEntity<ExpenseResponseDto> createExpense(
+            @Valid @RequestBody CreateExpenseDto createDto) {
+
+        Expense expense = expenseService.createExpense(createDto);
+        ExpenseResponseDto response = ExpenseResponseDto.from(expense);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Net balance of every member of a group.
+     */
+    @GetMapping("/group/{groupId}/balances")
+    public ResponseEntity<GroupBalancesResponseDto> getBalances(@PathVariable Long groupId) {
+        GroupBalancesResponseDto response = expenseService.getBalances(groupId);
+        return ResponseEntity.ok(response);
+    }
+}
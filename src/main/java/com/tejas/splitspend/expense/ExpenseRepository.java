@@ -0,0 +1,6 @@
+package com.tejas.splitspend.expense;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+}
@@ -0,0 +1,170 @@
+package com.tejas.splitspend.expense;
+
+import com.tejas.splitspend.expense.dto.CreateExpenseDto;
+import com.tejas.splitspend.expense.dto.GroupBalancesResponseDto;
+import com.tejas.splitspend.expense.dto.MemberBalanceDto;
+import com.tejas.splitspend.expense.dto.SplitShareDto;
+import com.tejas.splitspend.expense.exceptions.InvalidExpenseException;
+import com.tejas.splitspend.group.Group;
+import com.tejas.splitspend.group.GroupMember;
+import com.tejas.splitspend.group.GroupMemberRepository;
+import com.tejas.splitspend.group.GroupRepository;
+import com.tejas.splitspend.group.exceptions.GroupNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Service
+@Timed("splitspend.service")
+public class ExpenseService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpenseService.class);
+    private final ExpenseRepository expenseRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final MemberBalanceRepository memberBalanceRepository;
+
+    public ExpenseService(ExpenseRepository expenseRepository, GroupRepository groupRepository,
+                          GroupMemberRepository groupMemberRepository,
+                          MemberBalanceRepository memberBalanceRepository) {
+        this.expenseRepository = expenseRepository;
+        this.groupRepository = groupRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.memberBalanceRepository = memberBalanceRepository;
+    }
+
+    /**
+     * Record an expense and its splits as new ledger rows.
+     * Payer and participants are resolved in one query; the group row is referenced, never loaded or updated.
+     */
+    @Transactional
+    public Expense createExpense(CreateExpenseDto createDto) {
+        log.info("Creating expense of {} {} in group ID: {} paid by user ID: {}",
+                createDto.amountMinor(), createDto.currency(), createDto.groupId(), createDto.paidByUserId());
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (SplitShareDto share : createDto.splits()) {
+            if (!userIds.add(share.userId())) {
+                throw new InvalidExpenseException("User ID " + share.userId() + " appears more than once in splits");
+            }
+        }
+        userIds.add(createDto.paidByUserId());
+
+        Map<Long, GroupMember> members = new HashMap<>();
+        for (GroupMember member : groupMemberRepository.findByGroupIdAndUserIds(createDto.groupId(), userIds)) {
+            members.put(member.getUser().getUserId(), member);
+        }
+        if (members.isEmpty() && !groupRepository.existsById(createDto.groupId())) {
+            throw new GroupNotFoundException("Group with ID " + createDto.groupId() + " not found");
+        }
+        for (Long userId : userIds) {
+            if (!members.containsKey(userId)) {
+                throw new InvalidExpenseException("User ID " + userId + " is not a member of this group");
+            }
+        }
+
+        long[] shares = computeShares(createDto);
+
+        Group group = groupRepository.getReferenceById(createDto.groupId());
+        Expense expense = new Expense(group, members.get(createDto.paidByUserId()),
+                createDto.amountMinor(), createDto.currency(), createDto.description(), createDto.splitType());
+        List<SplitShareDto> splits = createDto.splits();
+        for (int i = 0; i < splits.size(); i++) {
+            expense.addSplit(members.get(splits.get(i).userId()), shares[i]);
+        }
+
+        Expense savedExpense = expenseRepository.save(expense);
+        applyBalanceDeltas(savedExpense, createDto.groupId());
+
+        log.info("Created expense ID: {} with {} splits in group ID: {}",
+                savedExpense.getExpenseId(), splits.size(), createDto.groupId());
+
+        return savedExpense;
+    }
+
+    /**
+     * Current net balances of every member of a group - one indexed read of the balance table.
+     */
+    @Transactional(readOnly = true)
+    public GroupBalancesResponseDto getBalances(Long groupId) {
+        List<MemberBalanceDto> balances = memberBalanceRepository.findByGroupId(groupId);
+        if (balances.isEmpty() && !groupRepository.existsById(groupId)) {
+            throw new GroupNotFoundException("Group with ID " + groupId + " not found");
+        }
+        return new GroupBalancesResponseDto(groupId, balances);
+    }
+
+    /*
+     * Payer is credited the full amount, each participant debited their share.
+     * Deltas are netted per member and applied in member-id order so concurrent
+     * expenses in the same group lock balance rows in a consistent order.
+     */
+    private void applyBalanceDeltas(Expense expense, Long groupId) {
+        Map<Long, Long> deltas = new TreeMap<>();
+        Map<Long, Long> userIds = new HashMap<>();
+
+        GroupMember payer = expense.getPaidBy();
+        deltas.merge(payer.getGroupMemberId(), expense.getAmountMinor(), Long::sum);
+        userIds.put(payer.getGroupMemberId(), payer.getUser().getUserId());
+        for (ExpenseSplit split : expense.getSplits()) {
+            GroupMember member = split.getMember();
+            deltas.merge(member.getGroupMemberId(), -split.getShareMinor(), Long::sum);
+            userIds.put(member.getGroupMemberId(), member.getUser().getUserId());
+        }
+
+        deltas.forEach((memberId, delta) -> memberBalanceRepository.applyDelta(
+                memberId, expense.getCurrency(), groupId, userIds.get(memberId), delta));
+    }
+
+    /*
+     * Shares in minor units, in the same order as the request's splits.
+     * EQUAL hands the remainder out one unit at a time to the first participants.
+     * EXACT shares must be non-negative and add up to the amount without overflowing -
+     * a wrapped-around total could otherwise match it.
+     */
+    static long[] computeShares(CreateExpenseDto createDto) {
+        List<SplitShareDto> splits = createDto.splits();
+        long amount = createDto.amountMinor();
+        long[] shares = new long[splits.size()];
+
+        if (createDto.splitType() == SplitType.EQUAL) {
+            long base = amount / shares.length;
+            long remainder = amount % shares.length;
+            for (int i = 0; i < shares.length; i++) {
+                shares[i] = base + (i < remainder ? 1 : 0);
+            }
+            return shares;
+        }
+
+        long total = 0;
+        for (int i = 0; i < shares.length; i++) {
+            Long share = splits.get(i).shareMinor();
+            if (share == null) {
+                throw new InvalidExpenseException("Share is required for user ID " + splits.get(i).userId());
+            }
+            if (share < 0) {
+                throw new InvalidExpenseException("Share cannot be negative for user ID " + splits.get(i).userId());
+            }
+            shares[i] = share;
+            try {
+                total = Math.addExact(total, share);
+            } catch (ArithmeticException ex) {
+                throw new InvalidExpenseException("Shares add up to more than the expense amount " + amount);
+            }
+        }
+        if (total != amount) {
+            throw new InvalidExpenseException(
+                    "Shares add up to " + total + " but the expense amount is " + amount);
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,52 @@
+package com.tejas.splitspend.expense;
+
+import com.tejas.splitspend.group.GroupMember;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+/*
+ * One member's share of an expense - a ledger row, written once with its expense.
+ *
+ * Shares of an expense always sum to the expense amount (enforced in ExpenseService).
+ * Indexed by member so per-member history can be read without scanning the group.
+ */
+
+@Getter
+@Entity
+@Immutable
+@Table(name = "expense_splits",
+        indexes = {
+                @Index(name = "idx_expense_splits_expense", columnList = "expense_id"),
+                @Index(name = "idx_expense_splits_member", columnList = "member_id")
+        })
+public class ExpenseSplit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_splits_seq")
+    @SequenceGenerator(name = "expense_splits_seq", sequenceName = "expense_splits_seq", allocationSize = 50)
+    private Long expenseSplitId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "expense_id", nullable = false, updatable = false)
+    private Expense expense;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false, updatable = false)
+    private GroupMember member;
+
+    /*
+     * This member's share in minor currency units.
+     */
+    @Column(nullable = false, updatable = false)
+    private long shareMinor;
+
+    ExpenseSplit(Expense expense, GroupMember member, long shareMinor) {
+        this.expense = expense;
+        this.member = member;
+        this.shareMinor = shareMinor;
+    }
+
+    protected ExpenseSplit() {
+    }
+}
@@ -0,0 +1,84 @@
+package com.tejas.splitspend.expense;
+
+import com.tejas.splitspend.group.GroupMember;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/*
+ * Materialized net balance of one group member in one currency.
+ *
+ * Read model derived from the expense ledger: positive means the group owes the member,
+ * negative means the member owes the group. Maintained incrementally by ExpenseService
+ * with atomic "net_minor = net_minor + delta" upserts in the same transaction as the
+ * ledger rows, so reads never replay history.
+ *
+ * The owning GroupMember identifies (group, user); group_id and user_id are copied onto
+ * the row so a group's balances are one indexed read with no joins.
+ *
+ * @Immutable for JPA - rows are only ever changed through MemberBalanceRepository.applyDelta.
+ */
+
+@Getter
+@Entity
+@Immutable
+@IdClass(MemberBalance.Key.class)
+@Table(name = "member_balances",
+        indexes = @Index(name = "idx_member_balances_group", columnList = "group_id"))
+public class MemberBalance {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(length = 3)
+    private String currency;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", insertable = false, updatable = false)
+    private GroupMember member;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /*
+     * Net balance in minor currency units.
+     */
+    @Column(nullable = false)
+    private long netMinor;
+
+    protected MemberBalance() {
+    }
+
+    public static class Key implements Serializable {
+        private Long memberId;
+        private String currency;
+
+        public Key() {
+        }
+
+        public Key(Long memberId, String currency) {
+            this.memberId = memberId;
+            this.currency = currency;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(memberId, key.memberId) && Objects.equals(currency, key.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(memberId, currency);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.tejas.splitspend.expense;
+
+import com.tejas.splitspend.expense.dto.MemberBalanceDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MemberBalanceRepository extends JpaRepository<MemberBalance, MemberBalance.Key> {
+
+    /*
+     * Atomic upsert - the database adds the delta in place, so there is no read-modify-write
+     * and concurrent expenses touching the same member serialize only on that one row.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_balances (member_id, currency, group_id, user_id, net_minor) " +
+            "VALUES (:memberId, :currency, :groupId, :userId, :delta) " +
+            "ON DUPLICATE KEY UPDATE net_minor = net_minor + :delta",
+            nativeQuery = true)
+    void applyDelta(@Param("memberId") Long memberId,
+                    @Param("currency") String currency,
+                    @Param("groupId") Long groupId,
+                    @Param("userId") Long userId,
+                    @Param("delta") long delta);
+
+    @Query("SELECT new com.tejas.splitspend.expense.dto.MemberBalanceDto(b.userId, b.currency, b.netMinor) " +
+            "FROM MemberBalance b WHERE b.groupId = :groupId ORDER BY b.userId, b.currency")
+    List<MemberBalanceDto> findByGroupId(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,6 @@
+package com.tejas.splitspend.expense;
+
+public enum SplitType {
+    EQUAL,
+    EXACT
+}
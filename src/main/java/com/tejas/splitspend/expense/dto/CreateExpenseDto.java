@@ -0,0 +1,34 @@
+package com.tejas.splitspend.expense.dto;
+
+import com.tejas.splitspend.expense.SplitType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+public record CreateExpenseDto(
+        @NotNull(message = "Group ID is required")
+        Long groupId,
+
+        @NotNull(message = "Payer user ID is required")
+        Long paidByUserId,
+
+        @NotNull(message = "Amount is required")
+        @Positive(message = "Amount must be positive")
+        Long amountMinor,
+
+        @NotBlank(message = "Currency is required")
+        @Pattern(regexp = "^[A-Z]{3}$", message = "Currency must be a 3-letter ISO code")
+        String currency,
+
+        @NotBlank(message = "Description is required")
+        @Size(max = 255, message = "Description must be at most 255 characters")
+        String description,
+
+        @NotNull(message = "Split type is required")
+        SplitType splitType,
+
+        @NotEmpty(message = "At least one participant is required")
+        @Size(max = 500, message = "At most 500 participants per expense")
+        List<@Valid SplitShareDto> splits) {
+}
@@ -0,0 +1,32 @@
+package com.tejas.splitspend.expense.dto;
+
+import com.tejas.splitspend.expense.Expense;
+import com.tejas.splitspend.expense.SplitType;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public record ExpenseResponseDto(
+        Long expenseId,
+        Long groupId,
+        Long paidByUserId,
+        long amountMinor,
+        String currency,
+        String description,
+        SplitType splitType,
+        ZonedDateTime createdAt,
+        List<ExpenseSplitDto> splits
+) {
+    public static ExpenseResponseDto from(Expense expense) {
+        return new ExpenseResponseDto(
+                expense.getExpenseId(),
+                expense.getGroup().getGroupId(),
+                expense.getPaidBy().getUser().getUserId(),
+                expense.getAmountMinor(),
+                expense.getCurrency(),
+                expense.getDescription(),
+                expense.getSplitType(),
+                expense.getCreatedAt(),
+                expense.getSplits().stream().map(ExpenseSplitDto::from).toList());
+    }
+}
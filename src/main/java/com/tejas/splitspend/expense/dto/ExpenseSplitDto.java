@@ -0,0 +1,14 @@
+package com.tejas.splitspend.expense.dto;
+
+import com.tejas.splitspend.expense.ExpenseSplit;
+
+public record ExpenseSplitDto(
+        Long userId,
+        long shareMinor
+) {
+    public static ExpenseSplitDto from(ExpenseSplit split) {
+        return new ExpenseSplitDto(
+                split.getMember().getUser().getUserId(),
+                split.getShareMinor());
+    }
+}
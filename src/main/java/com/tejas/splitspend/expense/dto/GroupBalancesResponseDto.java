@@ -0,0 +1,9 @@
+package com.tejas.splitspend.expense.dto;
+
+import java.util.List;
+
+public record GroupBalancesResponseDto(
+        Long groupId,
+        List<MemberBalanceDto> balances
+) {
+}
@@ -0,0 +1,11 @@
+package com.tejas.splitspend.expense.dto;
+
+/*
+ * Net balance of a member: positive is owed to them, negative is owed by them.
+ */
+public record MemberBalanceDto(
+        Long userId,
+        String currency,
+        long netMinor
+) {
+}
@@ -0,0 +1,15 @@
+package com.tejas.splitspend.expense.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/*
+ * A participant in an expense. shareMinor is required for EXACT splits and ignored for EQUAL.
+ */
+public record SplitShareDto(
+        @NotNull(message = "User ID is required")
+        Long userId,
+
+        @PositiveOrZero(message = "Share cannot be negative")
+        Long shareMinor) {
+}
@@ -0,0 +1,7 @@
+package com.tejas.splitspend.expense.exceptions;
+
+public class ExpenseException extends RuntimeException {
+    public ExpenseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tejas.splitspend.expense.exceptions;
+
+public class InvalidExpenseException extends ExpenseException {
+    public InvalidExpenseException(String message) {
+        super(message);
+    }
+}
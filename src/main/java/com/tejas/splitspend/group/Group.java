@@ -3,6 +3,8 @@ package com.tejas.splitspend.group;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -24,17 +26,31 @@ import java.util.List;
  *   CascadeType.ALL: When group is saved/updated/deleted, memberships follow
  *   orphanRemoval=true: Removing member from list deletes membership from DB
  *   Members list is eagerly initialized to prevent NullPointerException
+ *   memberCount is kept in step with memberships via addMember/removeMember
  *
  * Design Decisions:
  *   createdById stored as Long (not entity reference) to avoid circular dependency with User domain
  *   Group deletion policy: Only admins can delete, all memberships cascade delete
  *   Business rule (service layer): Group requires at least one admin at all times
+ *
+ * Caching:
+ *   Group and its members collection are second-level cached (READ_WRITE)
+ *   Changes go through addMember/removeMember and the entity itself, never bulk JPQL,
+ *   so Hibernate replaces or evicts the cached state on every flush
+ *
+ * Concurrency:
+ *   Optimistically locked through version - every membership change bumps memberCount and
+ *   therefore the version, so two concurrent adds to one group cannot both commit; the loser
+ *   is retried by GroupService (@RetryOnConflict) instead of holding row locks
  */
 
 @Getter
 @Setter
 @Entity
-@Table(name = "user_groups")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "groups")
+@Table(name = "user_groups",
+        indexes = @Index(name = "idx_user_groups_created_by", columnList = "created_by"))
 public class Group {
 
     @Id
@@ -49,11 +65,24 @@ public class Group {
     @OneToMany(mappedBy = "group",
             cascade = CascadeType.ALL,
             orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "group_member_ids")
     private List<GroupMember> members = new ArrayList<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private String groupName;
 
+    /*
+     * Denormalized number of memberships.
+     * Lets summary views report the size of a group without touching group_members.
+     * Only changed through addMember/removeMember so it stays in the same transaction as the membership row.
+     */
+    @Column(nullable = false)
+    private int memberCount;
+
     @Column(nullable = false, updatable = false)
     private ZonedDateTime createdAt;
 
@@ -76,15 +105,28 @@ public class Group {
         this.createdById = createdById;
     }
 
+    public void addMember(GroupMember member) {
+        members.add(member);
+        memberCount++;
+    }
+
+    public void removeMember(GroupMember member) {
+        if (members.remove(member)) {
+            memberCount--;
+        }
+    }
+
     @Override
     public String toString() {
         return "Group{" +
                 "groupId=" + groupId +
                 ", members=" + members +
                 ", groupName='" + groupName + '\'' +
+                ", memberCount=" + memberCount +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 ", createdById=" + createdById +
+                ", version=" + version +
                 '}';
     }
 
@@ -1,23 +1,30 @@
 package com.tejas.splitspend.group;
 
+import com.tejas.splitspend.group.dto.AddGroupMembersBulkDto;
 import com.tejas.splitspend.group.dto.AddGroupMembersDto;
+import com.tejas.splitspend.group.dto.BulkAddMembersResponseDto;
 import com.tejas.splitspend.group.dto.CreateGroupDto;
 import com.tejas.splitspend.group.dto.GroupMembersResponseDto;
+import com.tejas.splitspend.group.dto.GroupPageResponseDto;
 import com.tejas.splitspend.group.dto.GroupResponseDto;
+import com.tejas.splitspend.group.dto.UserGroupsResponseDto;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/v1/groups")
 public class GroupController {
     private final GroupService groupService;
 
-    public GroupController(GroupService groupService) {
+    private final GroupExportService groupExportService;
+
+    public GroupController(GroupService groupService, GroupExportService groupExportService) {
         this.groupService = groupService;
+        this.groupExportService = groupExportService;
     }
 
     /**
@@ -33,14 +40,37 @@ public class GroupController {
     }
 
     /**
-     * Get all groups (temporary - will filter by authenticated user with JWT).
+     * Get groups one page at a time (temporary - will filter by authenticated user with JWT).
+     * Pass the previous page's nextCursor as "after" to continue.
      */
     @GetMapping
-    public ResponseEntity<List<GroupResponseDto>> getAllGroups() {
-        List<Group> groups = groupService.getAllGroups();
-        List<GroupResponseDto> response = groups.stream()
-                .map(GroupResponseDto::from)
-                .toList();
+    public ResponseEntity<GroupPageResponseDto> getGroups(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        GroupPageResponseDto response = groupService.getGroups(after, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Export every group with its members as newline-delimited JSON (admin tooling).
+     * Off unless splitspend.groups.export.enabled is set, and then only for authenticated callers (SecurityConfig).
+     * Streams from a database cursor, so memory use does not grow with the number of groups.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportGroups() {
+        StreamingResponseBody body = groupExportService::exportGroups;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * Get the groups a user belongs to, with the user's role in each (home screen).
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<UserGroupsResponseDto> getUserGroups(@PathVariable Long userId) {
+        UserGroupsResponseDto response = groupService.getUserGroups(userId);
         return ResponseEntity.ok(response);
     }
 
@@ -51,9 +81,18 @@ public class GroupController {
     public ResponseEntity<GroupMembersResponseDto> addMember(
             @Valid @RequestBody AddGroupMembersDto addMemberDto) {
 
-        Group group = groupService.addMember(addMemberDto);
-        GroupMembersResponseDto response = GroupMembersResponseDto.from(group);
+        GroupMembersResponseDto response = groupService.addMember(addMemberDto);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Add many members to a group in one call, reporting the outcome per user.
+     */
+    @PostMapping("/member/add/bulk")
+    public ResponseEntity<BulkAddMembersResponseDto> addMembers(
+            @Valid @RequestBody AddGroupMembersBulkDto bulkDto) {
 
+        BulkAddMembersResponseDto response = groupService.addMembers(bulkDto);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,94 @@
+package com.tejas.splitspend.group;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tejas.splitspend.group.dto.GroupExportDto;
+import com.tejas.splitspend.group.dto.GroupExportRowDto;
+import com.tejas.splitspend.group.dto.MemberDto;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ * Streams all groups with their members as newline-delimited JSON.
+ *
+ * Rows come off a forward-only cursor as DTOs (nothing enters the persistence context)
+ * and each group is written as soon as its last row has been read, so heap use is bounded
+ * by the largest single group rather than by the number of groups.
+ */
+@Service
+@Timed("splitspend.service")
+public class GroupExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupExportService.class);
+
+    private final GroupRepository groupRepository;
+    private final ObjectMapper objectMapper;
+
+    public GroupExportService(GroupRepository groupRepository, ObjectMapper objectMapper) {
+        this.groupRepository = groupRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /*
+     * Write one JSON line per group to out. The caller owns (and closes) the stream.
+     */
+    @Transactional(readOnly = true)
+    public long exportGroups(OutputStream out) throws IOException {
+        long groups = 0;
+        try (Stream<GroupExportRowDto> rows = groupRepository.streamGroupExportRows();
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+
+            Iterator<GroupExportRowDto> cursor = rows.iterator();
+            GroupExportRowDto first = cursor.hasNext() ? cursor.next() : null;
+            while (first != null) {
+                List<MemberDto> members = new ArrayList<>(first.memberCount());
+                addMember(members, first);
+
+                GroupExportRowDto next = null;
+                while (cursor.hasNext()) {
+                    GroupExportRowDto row = cursor.next();
+                    if (!row.groupId().equals(first.groupId())) {
+                        next = row;
+                        break;
+                    }
+                    addMember(members, row);
+                }
+
+                writer.write(new GroupExportDto(first.groupId(), first.groupName(), first.createdById(),
+                        first.createdAt(), first.memberCount(), members));
+                groups++;
+                first = next;
+            }
+        }
+        // the separator goes between values only - end the last line too
+        if (groups > 0) {
+            out.write('\n');
+        }
+        out.flush();
+
+        log.info("Exported {} groups", groups);
+        return groups;
+    }
+
+    private static void addMember(List<MemberDto> members, GroupExportRowDto row) {
+        if (row.userId() != null) {
+            members.add(new MemberDto(row.userId(), row.name(), row.email(), row.role(), row.joinedAt()));
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.tejas.splitspend.user.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.ZonedDateTime;
 
@@ -23,20 +25,42 @@ import java.time.ZonedDateTime;
  *   User and Group only loaded when explicitly accessed via getters
  *   Use JOIN FETCH in repositories when related data is needed
  *
+ *Uniqueness:
+ *   (group_id, user_id) is unique - a user can hold only one membership per group
+ *   The same index serves the duplicate-member probe in GroupMemberRepository
+ *   user_id has its own index for the per-user "my groups" lookup
+ *
  *Deletion Semantics:
  *   Delete Group → GroupMember deleted (via Group's cascade)</li>
  *   Delete User → BLOCKED if any memberships exist (enforced in service layer)</li>
  *   Delete GroupMember → Neither Group nor User affected
+ *
+ *Caching:
+ *   Second-level cached so a cached Group.members (ids only) resolves without a query per member
  */
 
 @Getter
 @Setter
 @Entity
-@Table(name = "group_members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "group_members")
+@Table(name = "group_members",
+        uniqueConstraints = @UniqueConstraint(
+                name = GroupMember.UNIQUE_GROUP_USER,
+                columnNames = {"group_id", "user_id"}),
+        indexes = @Index(name = "idx_group_members_user", columnList = "user_id"))
 public class GroupMember {
 
+    public static final String UNIQUE_GROUP_USER = "uk_group_members_group_user";
+
+    /*
+     * Sequence-style id so Hibernate can batch membership inserts (IDENTITY forces one INSERT per row).
+     * MySQL has no sequences, so Hibernate backs this with the group_members_seq table;
+     * allocationSize lets one round-trip reserve ids for a whole batch.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_members_seq")
+    @SequenceGenerator(name = "group_members_seq", sequenceName = "group_members_seq", allocationSize = 50)
     private Long groupMemberId;
 
     /*
@@ -65,6 +89,13 @@ public class GroupMember {
     @Column(nullable = false)
     private MemberRole role;
 
+    /*
+     * Optimistic lock for role changes - two admins editing one membership cannot overwrite each other.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false, updatable = false)
     private ZonedDateTime createdAt;
 
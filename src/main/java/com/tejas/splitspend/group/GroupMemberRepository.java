@@ -1,6 +1,62 @@
 package com.tejas.splitspend.group;
 
+import com.tejas.splitspend.group.dto.MemberDto;
+import com.tejas.splitspend.group.dto.UserGroupDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
+
+    /*
+     * Index probe on (group_id, user_id) - does not load the group's members.
+     */
+    @Query("SELECT COUNT(gm) > 0 FROM GroupMember gm " +
+            "WHERE gm.group.groupId = :groupId AND gm.user.userId = :userId")
+    boolean existsByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    /*
+     * Which of the given users already belong to the group - one query for a whole bulk add.
+     */
+    @Query("SELECT gm.user.userId FROM GroupMember gm " +
+            "WHERE gm.group.groupId = :groupId AND gm.user.userId IN :userIds")
+    Set<Long> findMemberUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    /*
+     * Memberships of the given users in one group, without loading Group or User rows.
+     */
+    @Query("SELECT gm FROM GroupMember gm " +
+            "WHERE gm.group.groupId = :groupId AND gm.user.userId IN :userIds")
+    List<GroupMember> findByGroupIdAndUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    /*
+     * User ids of every member of the group, read from the (group_id, user_id) index.
+     */
+    @Query("SELECT gm.user.userId FROM GroupMember gm WHERE gm.group.groupId = :groupId")
+    List<Long> findUserIdsByGroupId(@Param("groupId") Long groupId);
+
+    /*
+     * A user's groups with their role, via the user_id index - one join, no Group entities.
+     */
+    @Query("SELECT new com.tejas.splitspend.group.dto.UserGroupDto(" +
+            "g.groupId, g.groupName, g.memberCount, gm.role) " +
+            "FROM GroupMember gm JOIN gm.group g " +
+            "WHERE gm.user.userId = :userId " +
+            "ORDER BY g.groupId")
+    List<UserGroupDto> findUserGroups(@Param("userId") Long userId);
+
+    /*
+     * Members of a group as DTOs in one join - selects only the columns MemberDto needs,
+     * instead of walking the members collection and lazy-loading each User.
+     */
+    @Query("SELECT new com.tejas.splitspend.group.dto.MemberDto(" +
+            "u.userId, u.name, u.email, gm.role, gm.createdAt) " +
+            "FROM GroupMember gm JOIN gm.user u " +
+            "WHERE gm.group.groupId = :groupId " +
+            "ORDER BY gm.groupMemberId")
+    List<MemberDto> findMemberDtos(@Param("groupId") Long groupId);
 }
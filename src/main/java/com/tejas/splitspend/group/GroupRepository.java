@@ -1,6 +1,46 @@
 package com.tejas.splitspend.group;
 
+import com.tejas.splitspend.group.dto.GroupExportRowDto;
+import com.tejas.splitspend.group.dto.GroupResponseDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
+
+    int EXPORT_FETCH_SIZE = 1000;
+
+    /*
+     * Keyset page of group summaries ordered by groupId.
+     * Reads the denormalized memberCount column, so group_members is never touched.
+     */
+    @Query("SELECT new com.tejas.splitspend.group.dto.GroupResponseDto(" +
+            "g.groupId, g.groupName, g.createdById, g.createdAt, g.memberCount) " +
+            "FROM Group g " +
+            "WHERE g.groupId > :afterGroupId " +
+            "ORDER BY g.groupId")
+    List<GroupResponseDto> findGroupSummariesAfter(@Param("afterGroupId") Long afterGroupId, Limit limit);
+
+    /*
+     * Every group with its members as flat rows, ordered so one group's rows are contiguous.
+     * Read through a forward-only cursor EXPORT_FETCH_SIZE rows at a time (MySQL needs
+     * useCursorFetch=true on the URL for this); must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.tejas.splitspend.group.dto.GroupExportRowDto(" +
+            "g.groupId, g.groupName, g.createdById, g.createdAt, g.memberCount, " +
+            "u.userId, u.name, u.email, gm.role, gm.createdAt) " +
+            "FROM Group g LEFT JOIN g.members gm LEFT JOIN gm.user u " +
+            "ORDER BY g.groupId, gm.groupMemberId")
+    Stream<GroupExportRowDto> streamGroupExportRows();
 }
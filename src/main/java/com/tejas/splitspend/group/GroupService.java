@@ -1,33 +1,64 @@
 package com.tejas.splitspend.group;
 
+import com.tejas.splitspend.common.ConstraintViolations;
+import com.tejas.splitspend.common.RetryOnConflict;
+import com.tejas.splitspend.group.dto.AddGroupMembersBulkDto;
 import com.tejas.splitspend.group.dto.AddGroupMembersDto;
+import com.tejas.splitspend.group.dto.BulkAddMembersResponseDto;
 import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.group.dto.GroupMembersResponseDto;
+import com.tejas.splitspend.group.dto.GroupPageResponseDto;
+import com.tejas.splitspend.group.dto.GroupResponseDto;
+import com.tejas.splitspend.group.dto.MemberAddResultDto;
+import com.tejas.splitspend.group.dto.UserGroupDto;
+import com.tejas.splitspend.group.dto.UserGroupsResponseDto;
 import com.tejas.splitspend.group.exceptions.GroupMemberDuplicateException;
+import com.tejas.splitspend.group.events.GroupCreated;
+import com.tejas.splitspend.group.events.MemberAdded;
 import com.tejas.splitspend.group.exceptions.GroupNotFoundException;
+import com.tejas.splitspend.outbox.DomainEventPublisher;
 import com.tejas.splitspend.user.User;
 import com.tejas.splitspend.user.UserRepository;
 import com.tejas.splitspend.user.exceptions.UserNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
+@Timed("splitspend.service")
 public class GroupService {
 
     private static final Logger log = LoggerFactory.getLogger(GroupService.class);
+    static final int MAX_PAGE_SIZE = 100;
+
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
+    private final UserGroupsCache userGroupsCache;
+    private final DomainEventPublisher eventPublisher;
 
-    public GroupService(GroupRepository groupRepository, GroupMemberRepository groupMemberRepository, UserRepository userRepository) {
+    public GroupService(GroupRepository groupRepository, GroupMemberRepository groupMemberRepository,
+                        UserRepository userRepository, UserGroupsCache userGroupsCache,
+                        DomainEventPublisher eventPublisher) {
         this.groupRepository = groupRepository;
         this.groupMemberRepository = groupMemberRepository;
         this.userRepository = userRepository;
+        this.userGroupsCache = userGroupsCache;
+        this.eventPublisher = eventPublisher;
     }
 
+    @RetryOnConflict
     @Transactional
     public Group createGroup(CreateGroupDto createDto) {
         log.info("Creating group '{}' for user ID: {}",
@@ -43,9 +74,12 @@ public class GroupService {
 
         // Add creator as admin
         GroupMember adminMember = new GroupMember(group, creator, MemberRole.ADMIN);
-        group.getMembers().add(adminMember);
+        group.addMember(adminMember);
 
         Group savedGroup = groupRepository.save(group);
+        userGroupsCache.invalidateAfterCommit(List.of(createDto.createdById()));
+        eventPublisher.publish(new GroupCreated(
+                savedGroup.getGroupId(), savedGroup.getGroupName(), createDto.createdById()));
 
         log.info("Created group ID: {} with admin user ID: {}",
                 savedGroup.getGroupId(), creator.getUserId());
@@ -54,17 +88,48 @@ public class GroupService {
     }
 
     /*
-     * Get all groups (temporary - will filter by user with JWT).
+     * Get one page of groups after the given cursor (temporary - will filter by user with JWT).
+     * Fetches one extra row to know whether another page exists.
+     */
+    @Transactional(readOnly = true)
+    public GroupPageResponseDto getGroups(Long afterGroupId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long cursor = afterGroupId == null ? 0L : afterGroupId;
+        log.debug("Fetching {} groups after group ID: {}", pageSize, cursor);
+
+        List<GroupResponseDto> rows = groupRepository.findGroupSummariesAfter(cursor, Limit.of(pageSize + 1));
+
+        if (rows.size() <= pageSize) {
+            return new GroupPageResponseDto(rows, null);
+        }
+        List<GroupResponseDto> page = rows.subList(0, pageSize);
+        return new GroupPageResponseDto(page, page.get(pageSize - 1).groupId());
+    }
+
+    /*
+     * Groups the user belongs to, with their role - served from UserGroupsCache when warm.
+     * Not readOnly, so a miss loads from the primary: membership writes invalidate the cache on
+     * commit, and a lagging replica would refill it with the old list for the whole TTL.
      */
-    public List<Group> getAllGroups() {
-        log.debug("Fetching all groups");
-        return groupRepository.findAll();
+    @Transactional
+    public UserGroupsResponseDto getUserGroups(Long userId) {
+        List<UserGroupDto> groups = userGroupsCache.get(userId).orElseGet(() -> {
+            long stamp = userGroupsCache.stamp(userId);
+            List<UserGroupDto> rows = groupMemberRepository.findUserGroups(userId);
+            userGroupsCache.put(userId, rows, stamp);
+            return rows;
+        });
+        return new UserGroupsResponseDto(userId, groups);
     }
 
     /**
      * Add a new member to an existing group.
+     * The response lists members through a projection, so no member's User is hydrated.
+     * Concurrent adds to one group race on its version; the loser is re-run from the start.
      */
-    public Group addMember(AddGroupMembersDto addMemberDto) {
+    @RetryOnConflict
+    @Transactional
+    public GroupMembersResponseDto addMember(AddGroupMembersDto addMemberDto) {
         log.info("Adding user ID: {} to group ID: {}",
                 addMemberDto.userId(), addMemberDto.groupId());
 
@@ -78,24 +143,110 @@ public class GroupService {
                         "Group with ID " + addMemberDto.groupId() + " not found"
                 ));
 
-        boolean alreadyMember = group.getMembers().stream()
-                .anyMatch(member -> member.getUser().getUserId().equals(user.getUserId()));
-
-        if (alreadyMember) {
+        if (groupMemberRepository.existsByGroupIdAndUserId(group.getGroupId(), user.getUserId())) {
             log.warn("User ID: {} is already a member of group ID: {}",
                     user.getUserId(), group.getGroupId());
-            throw new GroupMemberDuplicateException(
-                    user.getName()+" is already a member of this group"
-            );
+            throw duplicateMember(user);
         }
 
         GroupMember member = new GroupMember(group, user, MemberRole.MEMBER);
-        group.getMembers().add(member);
+        group.addMember(member);
+
+        // A concurrent add can still slip past the probe - the unique constraint is the final guard
+        try {
+            groupMemberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException ex) {
+            if (!ConstraintViolations.isViolationOf(ex, GroupMember.UNIQUE_GROUP_USER)) {
+                throw ex;
+            }
+            log.warn("Concurrent add of user ID: {} to group ID: {} rejected by unique constraint",
+                    user.getUserId(), group.getGroupId());
+            throw duplicateMember(user);
+        }
+
+        // The new member sees the group right away; the others' lists are refreshed from the
+        // MemberAdded event (MemberAddedCacheSubscriber), off the request path
+        userGroupsCache.invalidateAfterCommit(List.of(user.getUserId()));
+        eventPublisher.publish(new MemberAdded(
+                group.getGroupId(), user.getUserId(), member.getRole(), group.getMemberCount()));
 
-        Group savedGroup = groupRepository.save(group);
         log.info("Added user ID: {} to group ID: {}",
                 user.getUserId(), group.getGroupId());
 
-        return savedGroup;
+        return new GroupMembersResponseDto(
+                group.getGroupName(),
+                groupMemberRepository.findMemberDtos(group.getGroupId()),
+                group.getMemberCount());
+    }
+
+    /**
+     * Add many users to a group in one request.
+     * Users are resolved with one query, existing memberships with another,
+     * and the new memberships are written as batched inserts.
+     * Like addMember, it bumps the group's version, so a lost race is re-run from the start.
+     */
+    @RetryOnConflict
+    @Transactional
+    public BulkAddMembersResponseDto addMembers(AddGroupMembersBulkDto bulkDto) {
+        log.info("Bulk adding {} users to group ID: {}",
+                bulkDto.userIds().size(), bulkDto.groupId());
+
+        Group group = groupRepository.findById(bulkDto.groupId())
+                .orElseThrow(() -> new GroupNotFoundException(
+                        "Group with ID " + bulkDto.groupId() + " not found"
+                ));
+
+        Set<Long> userIds = new LinkedHashSet<>(bulkDto.userIds());
+        Map<Long, User> users = new HashMap<>();
+        userRepository.findAllById(userIds).forEach(user -> users.put(user.getUserId(), user));
+        Set<Long> existingMembers = groupMemberRepository.findMemberUserIds(group.getGroupId(), userIds);
+
+        List<GroupMember> newMembers = new ArrayList<>();
+        List<MemberAddResultDto> results = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            User user = users.get(userId);
+            if (user == null) {
+                results.add(new MemberAddResultDto(userId, MemberAddResultDto.Outcome.USER_NOT_FOUND));
+            } else if (existingMembers.contains(userId)) {
+                results.add(new MemberAddResultDto(userId, MemberAddResultDto.Outcome.ALREADY_MEMBER));
+            } else {
+                GroupMember member = new GroupMember(group, user, MemberRole.MEMBER);
+                group.addMember(member);
+                newMembers.add(member);
+                results.add(new MemberAddResultDto(userId, MemberAddResultDto.Outcome.ADDED));
+            }
+        }
+
+        try {
+            groupMemberRepository.saveAllAndFlush(newMembers);
+        } catch (DataIntegrityViolationException ex) {
+            if (!ConstraintViolations.isViolationOf(ex, GroupMember.UNIQUE_GROUP_USER)) {
+                throw ex;
+            }
+            log.warn("Bulk add to group ID: {} collided with a concurrent add", group.getGroupId());
+            throw new GroupMemberDuplicateException(
+                    "Some users were added to this group concurrently, please retry"
+            );
+        }
+
+        // Same as addMember: the new members' lists now, everyone else's from the MemberAdded events
+        if (!newMembers.isEmpty()) {
+            userGroupsCache.invalidateAfterCommit(newMembers.stream().map(member -> member.getUser().getUserId()).toList());
+        }
+        for (GroupMember member : newMembers) {
+            eventPublisher.publish(new MemberAdded(
+                    group.getGroupId(), member.getUser().getUserId(), member.getRole(), group.getMemberCount()));
+        }
+
+        log.info("Bulk added {} of {} users to group ID: {}",
+                newMembers.size(), userIds.size(), group.getGroupId());
+
+        return new BulkAddMembersResponseDto(group.getGroupId(), group.getMemberCount(), results);
+    }
+
+    private GroupMemberDuplicateException duplicateMember(User user) {
+        return new GroupMemberDuplicateException(
+                user.getName() + " is already a member of this group"
+        );
     }
 }
@@ -0,0 +1,32 @@
+package com.tejas.splitspend.group;
+
+import com.tejas.splitspend.group.events.MemberAdded;
+import com.tejas.splitspend.outbox.DomainEventSubscriber;
+import org.springframework.stereotype.Component;
+
+/*
+ * Refreshes the other members' "my groups" lists after a member joins - their cached member
+ * count is now short. Runs off the request path: addMember and addMembers only invalidate the
+ * new members' own lists, and the group's member ids are read here instead of in the write.
+ */
+@Component
+class MemberAddedCacheSubscriber implements DomainEventSubscriber<MemberAdded> {
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final UserGroupsCache userGroupsCache;
+
+    MemberAddedCacheSubscriber(GroupMemberRepository groupMemberRepository, UserGroupsCache userGroupsCache) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.userGroupsCache = userGroupsCache;
+    }
+
+    @Override
+    public Class<MemberAdded> eventType() {
+        return MemberAdded.class;
+    }
+
+    @Override
+    public void handle(MemberAdded event) {
+        userGroupsCache.invalidate(groupMemberRepository.findUserIdsByGroupId(event.groupId()));
+    }
+}
@@ -0,0 +1,116 @@
+package com.tejas.splitspend.group;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tejas.splitspend.group.dto.UserGroupDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Per-user "my groups" lists, the read behind the home screen.
+ *
+ * Membership writes invalidate the affected users after their transaction commits, so a
+ * reader can never re-cache the pre-commit state. A load that overlaps an invalidation of
+ * the same user is not stored (see stamp/put), which closes the read-then-invalidate-then-put
+ * race: invalidating leaves a versioned tombstone, and put only replaces the version it was
+ * stamped with. Other users' writes do not affect the load.
+ *
+ * Bounded by size and by TTL (Caffeine). Tombstones count toward the size; one evicted while
+ * a load is in flight lets that load's list in, stale for at most the TTL.
+ */
+@Component
+public class UserGroupsCache {
+
+    private static final long ABSENT = 0;
+
+    private final int maxSize;
+    private final Cache<Long, Entry> entries;
+    private final AtomicLong versions = new AtomicLong(ABSENT);
+
+    @Autowired
+    public UserGroupsCache(@Value("${splitspend.user-groups-cache.ttl:1m}") Duration ttl,
+                           @Value("${splitspend.user-groups-cache.max-size:10000}") int maxSize) {
+        this(ttl, maxSize, Clock.systemUTC());
+    }
+
+    UserGroupsCache(Duration ttl, int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfterWrite(ttl)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /*
+     * Cached groups for the user, empty if absent or expired.
+     */
+    public Optional<List<UserGroupDto>> get(Long userId) {
+        Entry entry = entries.getIfPresent(userId);
+        return entry == null ? Optional.empty() : Optional.ofNullable(entry.groups());
+    }
+
+    /*
+     * Take before loading the user's groups from the database and hand to put().
+     */
+    public long stamp(Long userId) {
+        return versionOf(entries.getIfPresent(userId));
+    }
+
+    public void put(Long userId, List<UserGroupDto> groups, long stamp) {
+        if (maxSize <= 0) {
+            return;
+        }
+        List<UserGroupDto> copy = List.copyOf(groups);
+        entries.asMap().compute(userId, (key, current) ->
+                versionOf(current) == stamp ? new Entry(copy, versions.incrementAndGet()) : current);
+    }
+
+    /*
+     * Drop these users' lists once the current transaction commits (immediately if there is none).
+     */
+    public void invalidateAfterCommit(Collection<Long> userIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userIds);
+            return;
+        }
+        List<Long> affected = List.copyOf(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(affected);
+            }
+        });
+    }
+
+    void invalidate(Collection<Long> userIds) {
+        if (maxSize <= 0) {
+            return;
+        }
+        for (Long userId : userIds) {
+            entries.put(userId, new Entry(null, versions.incrementAndGet()));
+        }
+    }
+
+    private static long versionOf(Entry entry) {
+        return entry == null ? ABSENT : entry.version();
+    }
+
+    /*
+     * groups is null for a tombstone left by invalidate.
+     */
+    private record Entry(List<UserGroupDto> groups, long version) {
+    }
+}
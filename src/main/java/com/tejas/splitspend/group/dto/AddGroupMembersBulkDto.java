@@ -0,0 +1,16 @@
+package com.tejas.splitspend.group.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record AddGroupMembersBulkDto(
+        @NotNull(message = "Group ID is required")
+        Long groupId,
+
+        @NotEmpty(message = "At least one user ID is required")
+        @Size(max = 500, message = "At most 500 users can be added at once")
+        List<@NotNull(message = "User ID is required") Long> userIds) {
+}
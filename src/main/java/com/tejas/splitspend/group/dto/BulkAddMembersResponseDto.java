@@ -0,0 +1,10 @@
+package com.tejas.splitspend.group.dto;
+
+import java.util.List;
+
+public record BulkAddMembersResponseDto(
+        Long groupId,
+        int memberCount,
+        List<MemberAddResultDto> results
+) {
+}
@@ -0,0 +1,17 @@
+package com.tejas.splitspend.group.dto;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/*
+ * One line of the NDJSON group export.
+ */
+public record GroupExportDto(
+        Long groupId,
+        String groupName,
+        Long createdById,
+        ZonedDateTime createdAt,
+        int memberCount,
+        List<MemberDto> members
+) {
+}
@@ -0,0 +1,23 @@
+package com.tejas.splitspend.group.dto;
+
+import com.tejas.splitspend.group.MemberRole;
+
+import java.time.ZonedDateTime;
+
+/*
+ * One group/member row of the export cursor.
+ * Member columns are null for a group without members (LEFT JOIN).
+ */
+public record GroupExportRowDto(
+        Long groupId,
+        String groupName,
+        Long createdById,
+        ZonedDateTime createdAt,
+        int memberCount,
+        Long userId,
+        String name,
+        String email,
+        MemberRole role,
+        ZonedDateTime joinedAt
+) {
+}
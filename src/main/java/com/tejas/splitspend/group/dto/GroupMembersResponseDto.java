@@ -15,6 +15,6 @@ public record GroupMembersResponseDto(
         return new GroupMembersResponseDto(
                 group.getGroupName(),
                 memberDto,
-                memberDto.size());
+                group.getMemberCount());
     }
 }
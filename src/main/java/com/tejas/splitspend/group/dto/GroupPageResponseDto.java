@@ -0,0 +1,13 @@
+package com.tejas.splitspend.group.dto;
+
+import java.util.List;
+
+/*
+ * One page of group summaries.
+ * nextCursor is the groupId to pass as "after" for the next page, null on the last page.
+ */
+public record GroupPageResponseDto(
+        List<GroupResponseDto> groups,
+        Long nextCursor
+) {
+}
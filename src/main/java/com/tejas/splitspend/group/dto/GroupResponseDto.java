@@ -17,6 +17,6 @@ public record GroupResponseDto(
                 group.getGroupName(),
                 group.getCreatedById(),
                 group.getCreatedAt(),
-                group.getMembers().size());
+                group.getMemberCount());
     }
 }
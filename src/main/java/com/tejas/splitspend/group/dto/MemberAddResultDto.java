@@ -0,0 +1,15 @@
+package com.tejas.splitspend.group.dto;
+
+/*
+ * Outcome of adding a single user in a bulk add-members request.
+ */
+public record MemberAddResultDto(
+        Long userId,
+        Outcome outcome
+) {
+    public enum Outcome {
+        ADDED,
+        ALREADY_MEMBER,
+        USER_NOT_FOUND
+    }
+}
@@ -0,0 +1,14 @@
+package com.tejas.splitspend.group.dto;
+
+import com.tejas.splitspend.group.MemberRole;
+
+/*
+ * One row of a user's "my groups" list - the group plus the user's role in it.
+ */
+public record UserGroupDto(
+        Long groupId,
+        String groupName,
+        int memberCount,
+        MemberRole role
+) {
+}
@@ -0,0 +1,9 @@
+package com.tejas.splitspend.group.dto;
+
+import java.util.List;
+
+public record UserGroupsResponseDto(
+        Long userId,
+        List<UserGroupDto> groups
+) {
+}
@@ -0,0 +1,10 @@
+package com.tejas.splitspend.group.events;
+
+import com.tejas.splitspend.outbox.DomainEvent;
+
+public record GroupCreated(
+        Long groupId,
+        String groupName,
+        Long createdById
+) implements DomainEvent {
+}
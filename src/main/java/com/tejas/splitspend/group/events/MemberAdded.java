@@ -0,0 +1,12 @@
+package com.tejas.splitspend.group.events;
+
+import com.tejas.splitspend.group.MemberRole;
+import com.tejas.splitspend.outbox.DomainEvent;
+
+public record MemberAdded(
+        Long groupId,
+        Long userId,
+        MemberRole role,
+        int memberCount
+) implements DomainEvent {
+}
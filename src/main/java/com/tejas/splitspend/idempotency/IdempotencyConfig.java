@@ -0,0 +1,53 @@
+package com.tejas.splitspend.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/*
+ * Idempotency-Key handling (see IdempotencyFilter).
+ *
+ * splitspend.idempotency.store picks where keys are kept: "memory" (default, per instance)
+ * or "database" (idempotency_keys table, shared by all instances).
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "splitspend.idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(
+            @Value("${splitspend.idempotency.ttl:24h}") Duration ttl,
+            @Value("${splitspend.idempotency.in-progress-timeout:1m}") Duration inProgressTimeout,
+            @Value("${splitspend.idempotency.max-size:10000}") int maxSize) {
+        return new InMemoryIdempotencyStore(ttl, inProgressTimeout, maxSize, Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "splitspend.idempotency.store", havingValue = "database")
+    public IdempotencyStore jdbcIdempotencyStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${splitspend.idempotency.ttl:24h}") Duration ttl,
+            @Value("${splitspend.idempotency.in-progress-timeout:1m}") Duration inProgressTimeout) {
+        return new JdbcIdempotencyStore(jdbcTemplate, ttl, inProgressTimeout, Clock.systemUTC());
+    }
+
+    @Bean
+    public IdempotencyFilter idempotencyFilter(
+            IdempotencyStore store,
+            MeterRegistry meterRegistry,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+            @Value("${splitspend.idempotency.paths:/v1/groups/create,/v1/user/signup}") Set<String> paths,
+            @Value("${splitspend.idempotency.max-request-bytes:16384}") int maxRequestBytes,
+            @Value("${splitspend.idempotency.max-response-bytes:16384}") int maxResponseBytes) {
+        return new IdempotencyFilter(store, paths, maxRequestBytes, maxResponseBytes, meterRegistry, exceptionResolver);
+    }
+}
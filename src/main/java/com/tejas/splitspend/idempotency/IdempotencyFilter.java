@@ -0,0 +1,244 @@
+package com.tejas.splitspend.idempotency;
+
+import com.tejas.splitspend.idempotency.exceptions.IdempotencyKeyInUseException;
+import com.tejas.splitspend.idempotency.exceptions.IdempotencyKeyReusedException;
+import com.tejas.splitspend.idempotency.exceptions.IdempotentRequestTooLargeException;
+import com.tejas.splitspend.idempotency.exceptions.InvalidIdempotencyKeyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * Makes POSTs to the configured paths safe to retry with an "Idempotency-Key" header.
+ *
+ * The first request with a key runs and its response (status, content type, body) is kept;
+ * a retry with the same key and body gets that response back with "Idempotent-Replayed: true"
+ * and never reaches the controller - no second group, no second BCrypt hash. A retry that
+ * arrives while the first is still running gets 409; the same key with a different body, 422.
+ * 5xx responses (and oversized ones) are not kept, so the client can simply retry them.
+ * Requests without the header are untouched.
+ *
+ * The body is read into memory to hash it, so it is capped at max-request-bytes: a larger
+ * declared Content-Length is refused before reading, and a chunked body as soon as it
+ * passes the cap (413 either way).
+ *
+ * Keys are scoped to the path. Registered in IdempotencyConfig rather than component-scanned,
+ * so web slice tests run without it.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 200;
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private final IdempotencyStore store;
+    private final Set<String> paths;
+    private final int maxRequestBytes;
+    private final int maxResponseBytes;
+    private final MeterRegistry meterRegistry;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public IdempotencyFilter(IdempotencyStore store, Set<String> paths, int maxRequestBytes, int maxResponseBytes,
+                             MeterRegistry meterRegistry, HandlerExceptionResolver exceptionResolver) {
+        this.store = store;
+        this.paths = Set.copyOf(paths);
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxResponseBytes = maxResponseBytes;
+        this.meterRegistry = meterRegistry;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            reject(request, response, new InvalidIdempotencyKeyException(
+                    IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters"), "invalid");
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            reject(request, response, tooLarge(), "too_large");
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        if (body.length > maxRequestBytes) {
+            reject(request, response, tooLarge(), "too_large");
+            return;
+        }
+        String requestHash = sha256(body);
+        String key = request.getRequestURI() + " " + idempotencyKey;
+        String claimToken = UUID.randomUUID().toString();
+
+        Optional<IdempotencyRecord> existing = store.claim(key, requestHash, claimToken);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (!record.requestHash().equals(requestHash)) {
+                reject(request, response, new IdempotencyKeyReusedException(
+                        IDEMPOTENCY_KEY_HEADER + " was already used for a different request"), "reused");
+            } else if (record.inProgress()) {
+                reject(request, response, new IdempotencyKeyInUseException(
+                        "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed"), "in_progress");
+            } else {
+                replay(response, record.response());
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean kept = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+            byte[] content = responseWrapper.getContentAsByteArray();
+            if (responseWrapper.getStatus() < 500 && content.length <= maxResponseBytes) {
+                store.complete(key, claimToken, new StoredResponse(responseWrapper.getStatus(), responseWrapper.getContentType(), content));
+                kept = true;
+            }
+            count("executed");
+        } finally {
+            if (!kept) {
+                store.release(key, claimToken);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private IdempotentRequestTooLargeException tooLarge() {
+        return new IdempotentRequestTooLargeException(
+                "Requests with an " + IDEMPOTENCY_KEY_HEADER + " are limited to " + maxRequestBytes + " bytes");
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        log.debug("Replaying stored {} response for a retried request", stored.status());
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+        count("replayed");
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RuntimeException ex, String outcome) {
+        exceptionResolver.resolveException(request, response, null, ex);
+        count(outcome);
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("splitspend.idempotency.requests", "outcome", outcome).increment();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /*
+     * The body has already been read to hash it, so the controller reads this copy.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // the body is already in memory, so it is all available at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.tejas.splitspend.idempotency;
+
+/*
+ * A claimed Idempotency-Key: the hash of the request body that claimed it and, once that
+ * request has finished, its response (null while it is still running).
+ */
+public record IdempotencyRecord(
+        String requestHash,
+        StoredResponse response
+) {
+    public boolean inProgress() {
+        return response == null;
+    }
+}
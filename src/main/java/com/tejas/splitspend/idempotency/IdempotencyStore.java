@@ -0,0 +1,30 @@
+package com.tejas.splitspend.idempotency;
+
+import java.util.Optional;
+
+/*
+ * Remembers Idempotency-Keys and their responses for IdempotencyFilter.
+ *
+ * claim is atomic: of two concurrent requests with the same key exactly one gets an empty
+ * result and runs; the other sees the in-progress record. A claim that has been in progress
+ * longer than the in-progress timeout counts as abandoned (its instance died) and can be
+ * taken over.
+ *
+ * Each claim carries a token chosen by the caller. complete and release only act while the
+ * key is still held under that token, so a slow request whose claim was taken over cannot
+ * overwrite or delete the new holder's record.
+ */
+public interface IdempotencyStore {
+
+    /*
+     * Empty if the key was free and is now held by the caller, otherwise the existing record.
+     */
+    Optional<IdempotencyRecord> claim(String key, String requestHash, String claimToken);
+
+    void complete(String key, String claimToken, StoredResponse response);
+
+    /*
+     * Forget a claim whose request failed, so a retry runs it again.
+     */
+    void release(String key, String claimToken);
+}
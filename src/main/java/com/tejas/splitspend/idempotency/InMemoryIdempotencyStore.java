@@ -0,0 +1,66 @@
+package com.tejas.splitspend.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-instance IdempotencyStore: keys live for the TTL and are evicted beyond max-size.
+ * Each claim is one atomic compute on the key's Caffeine entry, so claims on different keys
+ * never wait for each other. Enough when a client retries against the same instance; use the
+ * database store when retries can land on any instance.
+ */
+class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Clock clock;
+    private final Cache<String, Entry> entries;
+
+    InMemoryIdempotencyStore(Duration ttl, Duration inProgressTimeout, int maxSize, Clock clock) {
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+        this.clock = clock;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                // entries check their own expiry in claim; this only drops them from memory
+                .expireAfterWrite(ttl)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String requestHash, String claimToken) {
+        long now = clock.millis();
+        Entry claimed = new Entry(new IdempotencyRecord(requestHash, null), claimToken, now, now + ttl.toMillis());
+        Entry current = entries.asMap().compute(key, (k, entry) ->
+                entry == null || entry.isStale(now, inProgressTimeout.toMillis()) ? claimed : entry);
+        return current == claimed ? Optional.empty() : Optional.of(current.record());
+    }
+
+    @Override
+    public void complete(String key, String claimToken, StoredResponse response) {
+        long now = clock.millis();
+        entries.asMap().computeIfPresent(key, (k, entry) -> !entry.claimToken().equals(claimToken) ? entry
+                : new Entry(new IdempotencyRecord(entry.record().requestHash(), response), claimToken,
+                        entry.claimedAtMillis(), now + ttl.toMillis()));
+    }
+
+    @Override
+    public void release(String key, String claimToken) {
+        entries.asMap().computeIfPresent(key, (k, entry) -> entry.claimToken().equals(claimToken) ? null : entry);
+    }
+
+    private record Entry(IdempotencyRecord record, String claimToken, long claimedAtMillis, long expiresAtMillis) {
+
+        boolean isStale(long now, long inProgressTimeoutMillis) {
+            return expiresAtMillis <= now
+                    || (record.inProgress() && claimedAtMillis + inProgressTimeoutMillis <= now);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.tejas.splitspend.idempotency;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * IdempotencyStore on the idempotency_keys table, shared by all instances.
+ *
+ * The primary key makes claiming atomic: the insert that wins owns the key, a losing insert
+ * reads the existing row. Each statement runs on its own (auto-commit), outside the request's
+ * transaction, so a claim is visible to other instances before the request does any work.
+ * The row keeps the claim token, and complete/release match on it.
+ * Expired rows are purged every PURGE_EVERY claims, through the expires_at index.
+ */
+class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final int PURGE_EVERY = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Clock clock;
+    private final AtomicLong claims = new AtomicLong();
+
+    JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration inProgressTimeout, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String requestHash, String claimToken) {
+        Instant now = clock.instant();
+        if (claims.incrementAndGet() % PURGE_EVERY == 0) {
+            jdbcTemplate.update("delete from idempotency_keys where expires_at <= ?", Timestamp.from(now));
+        }
+
+        // second pass after removing a stale row or finding the key released in between
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                jdbcTemplate.update("insert into idempotency_keys (idempotency_key, request_hash, claim_token, created_at, "
+                                + "expires_at) values (?, ?, ?, ?, ?)",
+                        key, requestHash, claimToken, Timestamp.from(now), Timestamp.from(now.plus(ttl)));
+                return Optional.empty();
+            } catch (DuplicateKeyException ex) {
+                // claimed before - look at what is there
+            }
+
+            List<Row> rows = jdbcTemplate.query("select request_hash, status_code, content_type, response_body, "
+                    + "created_at, expires_at from idempotency_keys where idempotency_key = ?", JdbcIdempotencyStore::row, key);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            Row row = rows.get(0);
+            if (!row.isStale(now, inProgressTimeout)) {
+                return Optional.of(row.record());
+            }
+            jdbcTemplate.update("delete from idempotency_keys where idempotency_key = ? and created_at = ?",
+                    key, Timestamp.from(row.createdAt()));
+        }
+        // another request took the key over at the same moment
+        return Optional.of(new IdempotencyRecord(requestHash, null));
+    }
+
+    @Override
+    public void complete(String key, String claimToken, StoredResponse response) {
+        jdbcTemplate.update("update idempotency_keys set status_code = ?, content_type = ?, response_body = ?, "
+                        + "expires_at = ? where idempotency_key = ? and claim_token = ?",
+                response.status(), response.contentType(), response.body(),
+                Timestamp.from(clock.instant().plus(ttl)), key, claimToken);
+    }
+
+    @Override
+    public void release(String key, String claimToken) {
+        jdbcTemplate.update("delete from idempotency_keys where idempotency_key = ? and claim_token = ?", key, claimToken);
+    }
+
+    private static Row row(ResultSet rs, int rowNum) throws SQLException {
+        int status = rs.getInt("status_code");
+        StoredResponse response = rs.wasNull() ? null
+                : new StoredResponse(status, rs.getString("content_type"), rs.getBytes("response_body"));
+        return new Row(new IdempotencyRecord(rs.getString("request_hash"), response),
+                rs.getTimestamp("created_at").toInstant(), rs.getTimestamp("expires_at").toInstant());
+    }
+
+    private record Row(IdempotencyRecord record, Instant createdAt, Instant expiresAt) {
+
+        boolean isStale(Instant now, Duration inProgressTimeout) {
+            return !expiresAt.isAfter(now)
+                    || (record.inProgress() && !createdAt.plus(inProgressTimeout).isAfter(now));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.tejas.splitspend.idempotency;
+
+/*
+ * What a request with an Idempotency-Key answered, replayed verbatim on retries.
+ */
+public record StoredResponse(
+        int status,
+        String contentType,
+        byte[] body
+) {
+}
@@ -0,0 +1,7 @@
+package com.tejas.splitspend.idempotency.exceptions;
+
+public class IdempotencyException extends RuntimeException {
+    public IdempotencyException(String message) {
+        super(message);
+    }
+}
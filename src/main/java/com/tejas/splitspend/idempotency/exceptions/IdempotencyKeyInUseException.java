@@ -0,0 +1,7 @@
+package com.tejas.splitspend.idempotency.exceptions;
+
+public class IdempotencyKeyInUseException extends IdempotencyException {
+    public IdempotencyKeyInUseException(String message) {
+        super(message);
+    }
+}
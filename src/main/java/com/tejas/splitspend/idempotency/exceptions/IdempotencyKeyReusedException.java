@@ -0,0 +1,7 @@
+package com.tejas.splitspend.idempotency.exceptions;
+
+public class IdempotencyKeyReusedException extends IdempotencyException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tejas.splitspend.idempotency.exceptions;
+
+public class IdempotentRequestTooLargeException extends IdempotencyException {
+    public IdempotentRequestTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tejas.splitspend.idempotency.exceptions;
+
+public class InvalidIdempotencyKeyException extends IdempotencyException {
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
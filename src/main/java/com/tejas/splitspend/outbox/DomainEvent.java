@@ -0,0 +1,10 @@
+package com.tejas.splitspend.outbox;
+
+/*
+ * Something that happened in a domain, published through DomainEventPublisher.
+ *
+ * Implementations are records serialized to JSON in the outbox and stored under their
+ * simple class name, so renaming one orphans the rows still waiting in outbox_events.
+ */
+public interface DomainEvent {
+}
@@ -0,0 +1,50 @@
+package com.tejas.splitspend.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * Writes domain events to the outbox inside the caller's transaction.
+ *
+ * The event commits or rolls back with the change it describes - a retried or failed write
+ * publishes nothing. Publishing is one insert; subscribers run later on OutboxRelay's
+ * threads, so they never add latency to the request. The relay is woken on commit rather
+ * than waiting for its next poll.
+ */
+@Component
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay relay;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventPublisher(OutboxEventRepository outboxEventRepository, OutboxRelay relay,
+                                ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.relay = relay;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Domain events must be published inside a transaction");
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Cannot serialize " + event, ex);
+        }
+        outboxEventRepository.save(new OutboxEvent(event.getClass().getSimpleName(), payload));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.tejas.splitspend.outbox;
+
+/*
+ * In-process consumer of one event type, fed by OutboxRelay.
+ *
+ * Each subscriber has its own queue and thread, so events reach it in outbox order and a
+ * slow subscriber does not hold up the others. Delivery is at least once: an event that was
+ * in flight when the instance stopped is delivered again after restart, so handlers must
+ * tolerate repeats.
+ */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+
+    default String name() {
+        return getClass().getSimpleName();
+    }
+}
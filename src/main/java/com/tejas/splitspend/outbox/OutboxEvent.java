@@ -0,0 +1,56 @@
+package com.tejas.splitspend.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+
+/*
+ * A published DomainEvent waiting to be relayed.
+ *
+ * Rows live only until every subscriber has handled the event, then OutboxRelay deletes them.
+ * claimedBy/claimedUntil is the lease of the relay instance delivering the row, so the next
+ * poll - on any instance - skips it without having to track ids (IDENTITY ids can commit out
+ * of order, so "greater than the last id seen" would skip events). Once the lease runs out
+ * the row can be claimed again.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_events_pending", columnList = "claimed_until, outbox_event_id"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxEventId;
+
+    @Column(nullable = false, length = 64)
+    private String eventType;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(length = 64)
+    private String claimedBy;
+
+    @Column
+    private ZonedDateTime claimedUntil;
+
+    public OutboxEvent(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public OutboxEvent() {
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = ZonedDateTime.now();
+    }
+}
@@ -0,0 +1,41 @@
+package com.tejas.splitspend.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /*
+     * Oldest events nobody holds a live lease on, via idx_outbox_events_pending: never claimed,
+     * or claimed by an instance that did not finish them in time.
+     */
+    @Query("SELECT e.outboxEventId FROM OutboxEvent e WHERE e.claimedUntil IS NULL OR e.claimedUntil < :now "
+            + "ORDER BY e.outboxEventId")
+    List<Long> findClaimable(@Param("now") ZonedDateTime now, Limit limit);
+
+    /*
+     * Takes the lease on those of the ids that are still claimable. The condition is checked
+     * again under the row lock, so when two instances race for a row only one of them gets it.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = :claimedBy, e.claimedUntil = :claimedUntil "
+            + "WHERE e.outboxEventId IN :ids AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedBy") String claimedBy,
+              @Param("claimedUntil") ZonedDateTime claimedUntil, @Param("now") ZonedDateTime now);
+
+    List<OutboxEvent> findByOutboxEventIdInAndClaimedByOrderByOutboxEventId(Collection<Long> ids, String claimedBy);
+
+    /*
+     * Gives up the leases of an instance that is stopping, so others need not wait them out.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = NULL, e.claimedUntil = NULL WHERE e.claimedBy = :claimedBy")
+    int releaseClaims(@Param("claimedBy") String claimedBy);
+}
@@ -0,0 +1,300 @@
+package com.tejas.splitspend.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Drains the outbox into in-process subscribers.
+ *
+ * One virtual thread claims pending rows in batches and puts each event on the queue of every
+ * subscriber of its type; each subscriber drains its own queue on its own virtual thread.
+ * A row is deleted once all of its subscribers have handled it.
+ *
+ * Claiming takes a lease (claimed_by = this instance, claimed_until = now + lease) with a
+ * conditional update, so instances draining the same table never hand out the same row at
+ * the same time. Rows whose lease ran out - their instance died, or took longer than the
+ * lease - are claimed again by whoever polls next; delivery is at least once, so handlers
+ * must tolerate repeats. A stopping instance gives its leases back.
+ *
+ * Backpressure: at most max-in-flight events are claimed but not yet handled. Subscriber
+ * queues are sized to that bound, so enqueueing never blocks; when subscribers fall behind,
+ * the relay stops claiming and events wait in outbox_events instead of in memory. Writers
+ * only ever insert a row, so a slow subscriber never slows a request.
+ *
+ * A handler that throws is logged and counted, and the event counts as handled - one bad
+ * event must not stall its subscriber.
+ *
+ * Metrics: "splitspend.outbox.events" (type, outcome = handled/failed/unhandled),
+ * "splitspend.outbox.lag" (type; publish to handled) and "splitspend.outbox.backpressure"
+ * (polls that found max-in-flight reached).
+ */
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, List<Channel<?>>> channelsByType = new HashMap<>();
+    private final Map<String, Class<? extends DomainEvent>> eventTypes = new HashMap<>();
+    private final List<Channel<?>> channels = new ArrayList<>();
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final Duration lease;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Semaphore wakeups = new Semaphore(0);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Long> handled = new ConcurrentLinkedQueue<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       List<DomainEventSubscriber<?>> subscribers,
+                       @Value("${splitspend.outbox.poll-interval:1s}") Duration pollInterval,
+                       @Value("${splitspend.outbox.batch-size:100}") int batchSize,
+                       @Value("${splitspend.outbox.max-in-flight:1000}") int maxInFlight,
+                       @Value("${splitspend.outbox.lease:5m}") Duration lease) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.pollInterval = pollInterval;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxInFlight = Math.max(maxInFlight, 1);
+        this.lease = lease;
+
+        for (DomainEventSubscriber<?> subscriber : subscribers) {
+            Channel<?> channel = new Channel<>(subscriber, this.maxInFlight);
+            String type = subscriber.eventType().getSimpleName();
+            eventTypes.put(type, subscriber.eventType());
+            channelsByType.computeIfAbsent(type, key -> new ArrayList<>()).add(channel);
+            channels.add(channel);
+            meterRegistry.gauge("splitspend.outbox.queue.size", Tags.of("subscriber", subscriber.name()),
+                    channel.queue, BlockingQueue::size);
+        }
+    }
+
+    /*
+     * Poll now instead of at the next interval - called when a transaction with events commits.
+     */
+    public void wakeUp() {
+        wakeups.release();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (Channel<?> channel : channels) {
+            threads.add(Thread.ofVirtual().name("outbox-" + channel.subscriber.name()).start(channel::drain));
+        }
+        threads.add(Thread.ofVirtual().name("outbox-relay").start(this::relay));
+    }
+
+    /*
+     * Threads notice the flag within one poll interval; not interrupted, so a handler
+     * mid-query is not cut off. Handled rows are deleted and the leases on the rest released,
+     * so they are redelivered on the next poll of any instance rather than after the lease.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        wakeUp();
+        for (Thread thread : threads) {
+            try {
+                thread.join(pollInterval.toMillis() + 1000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+        try {
+            deleteHandled();
+            int released = transactionTemplate.execute(status -> outboxEventRepository.releaseClaims(instanceId));
+            if (released > 0) {
+                log.info("Released {} undelivered outbox events", released);
+            }
+        } catch (RuntimeException ex) {
+            // left to expire - another instance claims them once the lease runs out
+            log.warn("Could not release outbox leases on shutdown", ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relay() {
+        while (running) {
+            try {
+                wakeups.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                wakeups.drainPermits();
+                deleteHandled();
+                dispatchPending();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                // database unavailable and the like - try again on the next poll
+                log.warn("Outbox relay poll failed", ex);
+            }
+        }
+    }
+
+    private void dispatchPending() {
+        while (running) {
+            int capacity = maxInFlight - inFlight.get();
+            if (capacity <= 0) {
+                meterRegistry.counter("splitspend.outbox.backpressure").increment();
+                return;
+            }
+            int limit = Math.min(batchSize, capacity);
+            List<OutboxEvent> batch = transactionTemplate.execute(status -> claim(limit));
+            batch.forEach(this::dispatch);
+            if (batch.size() < limit) {
+                return;
+            }
+        }
+    }
+
+    /*
+     * Rows another instance claimed between the read and the update are simply not returned.
+     */
+    private List<OutboxEvent> claim(int limit) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<Long> candidates = outboxEventRepository.findClaimable(now, Limit.of(limit));
+        if (candidates.isEmpty()
+                || outboxEventRepository.claim(candidates, instanceId, now.plus(lease), now) == 0) {
+            return List.of();
+        }
+        return outboxEventRepository.findByOutboxEventIdInAndClaimedByOrderByOutboxEventId(candidates, instanceId);
+    }
+
+    private void dispatch(OutboxEvent row) {
+        List<Channel<?>> targets = channelsByType.getOrDefault(row.getEventType(), List.of());
+        if (targets.isEmpty()) {
+            // nobody listens for this type (yet) - nothing to deliver
+            count(row.getEventType(), "unhandled");
+            handled.add(row.getOutboxEventId());
+            return;
+        }
+        DomainEvent event = read(row);
+        if (event == null) {
+            count(row.getEventType(), "failed");
+            handled.add(row.getOutboxEventId());
+            return;
+        }
+        inFlight.incrementAndGet();
+        Delivery delivery = new Delivery(row.getOutboxEventId(), row.getEventType(), event, row.getCreatedAt(),
+                new AtomicInteger(targets.size()));
+        for (Channel<?> channel : targets) {
+            // never full: the queue holds max-in-flight deliveries and at most that many are claimed
+            channel.queue.add(delivery);
+        }
+    }
+
+    private DomainEvent read(OutboxEvent row) {
+        try {
+            return objectMapper.readValue(row.getPayload(), eventTypes.get(row.getEventType()));
+        } catch (JsonProcessingException ex) {
+            log.error("Dropping unreadable outbox event ID: {} of type {}", row.getOutboxEventId(), row.getEventType(), ex);
+            return null;
+        }
+    }
+
+    private void deleteHandled() {
+        List<Long> ids = new ArrayList<>();
+        for (Long id = handled.poll(); id != null; id = handled.poll()) {
+            ids.add(id);
+        }
+        if (!ids.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteAllByIdInBatch(ids));
+        }
+    }
+
+    private void handled(Delivery delivery) {
+        if (delivery.remaining().decrementAndGet() == 0) {
+            handled.add(delivery.outboxEventId());
+            inFlight.decrementAndGet();
+            wakeUp();
+        }
+    }
+
+    private void count(String type, String outcome) {
+        meterRegistry.counter("splitspend.outbox.events", "type", type, "outcome", outcome).increment();
+    }
+
+    private record Delivery(Long outboxEventId, String type, DomainEvent event, ZonedDateTime createdAt,
+                            AtomicInteger remaining) {
+    }
+
+    private final class Channel<E extends DomainEvent> {
+        private final DomainEventSubscriber<E> subscriber;
+        private final BlockingQueue<Delivery> queue;
+
+        Channel(DomainEventSubscriber<E> subscriber, int capacity) {
+            this.subscriber = subscriber;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void drain() {
+            while (running) {
+                Delivery delivery;
+                try {
+                    delivery = queue.poll(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (delivery == null) {
+                    continue;
+                }
+                try {
+                    subscriber.handle(subscriber.eventType().cast(delivery.event()));
+                    count(delivery.type(), "handled");
+                    Timer.builder("splitspend.outbox.lag").tag("type", delivery.type()).register(meterRegistry)
+                            .record(Duration.between(delivery.createdAt(), ZonedDateTime.now()));
+                } catch (RuntimeException ex) {
+                    count(delivery.type(), "failed");
+                    log.error("{} failed to handle outbox event ID: {}",
+                            subscriber.name(), delivery.outboxEventId(), ex);
+                }
+                handled(delivery);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.tejas.splitspend.settlement;
+
+import com.tejas.splitspend.settlement.dto.SettlementResponseDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/settlements")
+public class SettlementController {
+    private final SettlementService settlementService;
+
+    public SettlementController(SettlementService settlementService) {
+        this.settlementService = settlementService;
+    }
+
+    /**
+     * Minimal set of transfers that settles a group.
+     */
+    @GetMapping("/group/{groupId}")
+    public ResponseEntity<SettlementResponseDto> settleGroup(@PathVariable Long groupId) {
+        SettlementResponseDto response = settlementService.settleGroup(groupId);
+        return ResponseEntity.ok(response);
+    }
+}
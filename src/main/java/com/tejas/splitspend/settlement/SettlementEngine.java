@@ -0,0 +1,243 @@
+package com.tejas.splitspend.settlement;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+ * Computes a small set of transfers that brings every balance to zero.
+ *
+ * Input is a long[] of net balances (minor units) indexed by compacted member ordinal;
+ * positive = owed money, negative = owes money, sum must be zero. No boxing anywhere.
+ *
+ * Strategy:
+ *   Up to exactMaxMembers non-zero balances - exact minimum via subset DP. The minimum
+ *   number of transfers is n - k, where k is the largest number of disjoint zero-sum
+ *   subsets; each subset is then settled internally with at most (size - 1) transfers.
+ *   The DP is O(2^n * n) and checks a time budget, falling back to greedy if exceeded.
+ *
+ *   Larger inputs - greedy matcher over two binary heaps (largest creditor against
+ *   largest debtor). O(n log n), at most n - 1 transfers.
+ */
+@Component
+public class SettlementEngine {
+
+    private static final int BUDGET_CHECK_INTERVAL = 4096;
+
+    private final int exactMaxMembers;
+    private final long exactTimeBudgetNanos;
+
+    public SettlementEngine(@Value("${splitspend.settlement.exact-max-members:16}") int exactMaxMembers,
+                            @Value("${splitspend.settlement.exact-time-budget:5ms}") Duration exactTimeBudget) {
+        if (exactMaxMembers > 24) {
+            throw new IllegalArgumentException("exactMaxMembers above 24 would need more than 2^24 DP states");
+        }
+        this.exactMaxMembers = exactMaxMembers;
+        this.exactTimeBudgetNanos = exactTimeBudget.toNanos();
+    }
+
+    public SettlementPlan settle(long[] balances) {
+        int nonZero = 0;
+        long total = 0;
+        for (long balance : balances) {
+            if (balance != 0) {
+                nonZero++;
+            }
+            total += balance;
+        }
+        if (total != 0) {
+            throw new IllegalArgumentException("Balances must sum to zero but sum to " + total);
+        }
+
+        if (nonZero <= exactMaxMembers) {
+            SettlementPlan exact = settleExact(balances, nonZero);
+            if (exact != null) {
+                return exact;
+            }
+        }
+        return settleGreedy(balances, nonZero);
+    }
+
+    /*
+     * Returns null if the time budget runs out before the DP completes.
+     */
+    SettlementPlan settleExact(long[] balances, int nonZero) {
+        int[] ordinals = new int[nonZero];
+        long[] values = new long[nonZero];
+        int n = 0;
+        for (int i = 0; i < balances.length; i++) {
+            if (balances[i] != 0) {
+                ordinals[n] = i;
+                values[n] = balances[i];
+                n++;
+            }
+        }
+
+        int states = 1 << n;
+        long[] sums = new long[states];
+        byte[] groups = new byte[states];
+        byte[] removed = new byte[states];
+        long deadline = System.nanoTime() + exactTimeBudgetNanos;
+
+        for (int mask = 1; mask < states; mask++) {
+            if ((mask & (BUDGET_CHECK_INTERVAL - 1)) == 0 && System.nanoTime() > deadline) {
+                return null;
+            }
+            int lowest = Integer.numberOfTrailingZeros(mask);
+            sums[mask] = sums[mask & (mask - 1)] + values[lowest];
+
+            int best = -1;
+            int bestBit = lowest;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                int bit = Integer.numberOfTrailingZeros(rest);
+                int candidate = groups[mask ^ (1 << bit)];
+                if (candidate > best) {
+                    best = candidate;
+                    bestBit = bit;
+                }
+            }
+            groups[mask] = (byte) (best + (sums[mask] == 0 ? 1 : 0));
+            removed[mask] = (byte) bestBit;
+        }
+
+        // Walk the DP chain; members removed between two zero-sum masks form one zero-sum subset
+        SettlementPlan plan = new SettlementPlan(Math.max(n - 1, 0));
+        long[] subset = new long[n];
+        int[] subsetOrdinals = new int[n];
+        int subsetSize = 0;
+        for (int mask = states - 1; mask != 0; ) {
+            int bit = removed[mask];
+            subsetOrdinals[subsetSize] = ordinals[bit];
+            subset[subsetSize] = values[bit];
+            subsetSize++;
+            mask ^= 1 << bit;
+            if (sums[mask] == 0) {
+                settleSubset(plan, subsetOrdinals, subset, subsetSize);
+                subsetSize = 0;
+            }
+        }
+        return plan;
+    }
+
+    /*
+     * Settles one zero-sum subset with at most (size - 1) transfers by walking
+     * debtors and creditors in parallel.
+     */
+    private void settleSubset(SettlementPlan plan, int[] ordinals, long[] values, int size) {
+        int debtor = nextWithSign(values, size, 0, -1);
+        int creditor = nextWithSign(values, size, 0, 1);
+        while (debtor < size && creditor < size) {
+            long amount = Math.min(-values[debtor], values[creditor]);
+            plan.add(ordinals[debtor], ordinals[creditor], amount);
+            values[debtor] += amount;
+            values[creditor] -= amount;
+            if (values[debtor] == 0) {
+                debtor = nextWithSign(values, size, debtor + 1, -1);
+            }
+            if (values[creditor] == 0) {
+                creditor = nextWithSign(values, size, creditor + 1, 1);
+            }
+        }
+    }
+
+    private int nextWithSign(long[] values, int size, int start, int sign) {
+        int i = start;
+        while (i < size && Long.signum(values[i]) != sign) {
+            i++;
+        }
+        return i;
+    }
+
+    SettlementPlan settleGreedy(long[] balances, int nonZero) {
+        long[] remaining = balances.clone();
+        OrdinalHeap creditors = new OrdinalHeap(nonZero, remaining, 1);
+        OrdinalHeap debtors = new OrdinalHeap(nonZero, remaining, -1);
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] > 0) {
+                creditors.push(i);
+            } else if (remaining[i] < 0) {
+                debtors.push(i);
+            }
+        }
+
+        SettlementPlan plan = new SettlementPlan(Math.max(nonZero - 1, 0));
+        while (!creditors.isEmpty() && !debtors.isEmpty()) {
+            int creditor = creditors.pop();
+            int debtor = debtors.pop();
+            long amount = Math.min(remaining[creditor], -remaining[debtor]);
+            plan.add(debtor, creditor, amount);
+            remaining[creditor] -= amount;
+            remaining[debtor] += amount;
+            if (remaining[creditor] != 0) {
+                creditors.push(creditor);
+            }
+            if (remaining[debtor] != 0) {
+                debtors.push(debtor);
+            }
+        }
+        return plan;
+    }
+
+    /*
+     * Binary max-heap of ordinals keyed by sign * balance[ordinal], backed by an int[].
+     */
+    private static final class OrdinalHeap {
+        private final int[] heap;
+        private final long[] balances;
+        private final int sign;
+        private int size;
+
+        OrdinalHeap(int capacity, long[] balances, int sign) {
+            this.heap = new int[Math.max(capacity, 1)];
+            this.balances = balances;
+            this.sign = sign;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int ordinal) {
+            int i = size++;
+            heap[i] = ordinal;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (key(heap[parent]) >= key(heap[i])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        int pop() {
+            int top = heap[0];
+            heap[0] = heap[--size];
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int child = left + 1 < size && key(heap[left + 1]) > key(heap[left]) ? left + 1 : left;
+                if (key(heap[i]) >= key(heap[child])) {
+                    break;
+                }
+                swap(i, child);
+                i = child;
+            }
+            return top;
+        }
+
+        private long key(int ordinal) {
+            return sign * balances[ordinal];
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
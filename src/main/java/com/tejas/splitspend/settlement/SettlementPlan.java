@@ -0,0 +1,42 @@
+package com.tejas.splitspend.settlement;
+
+/*
+ * Transfers that settle a set of balances, stored as parallel primitive arrays.
+ * Transfer i moves amounts[i] minor units from ordinal from[i] (a debtor) to ordinal to[i] (a creditor).
+ */
+public final class SettlementPlan {
+
+    private final int[] from;
+    private final int[] to;
+    private final long[] amounts;
+    private int size;
+
+    SettlementPlan(int capacity) {
+        this.from = new int[capacity];
+        this.to = new int[capacity];
+        this.amounts = new long[capacity];
+    }
+
+    void add(int debtor, int creditor, long amount) {
+        from[size] = debtor;
+        to[size] = creditor;
+        amounts[size] = amount;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int from(int i) {
+        return from[i];
+    }
+
+    public int to(int i) {
+        return to[i];
+    }
+
+    public long amount(int i) {
+        return amounts[i];
+    }
+}
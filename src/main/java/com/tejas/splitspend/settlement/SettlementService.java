@@ -0,0 +1,61 @@
+package com.tejas.splitspend.settlement;
+
+import com.tejas.splitspend.expense.ExpenseService;
+import com.tejas.splitspend.expense.dto.MemberBalanceDto;
+import com.tejas.splitspend.settlement.dto.SettlementResponseDto;
+import com.tejas.splitspend.settlement.dto.TransferDto;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Timed("splitspend.service")
+public class SettlementService {
+
+    private static final Logger log = LoggerFactory.getLogger(SettlementService.class);
+    private final ExpenseService expenseService;
+    private final SettlementEngine settlementEngine;
+
+    public SettlementService(ExpenseService expenseService, SettlementEngine settlementEngine) {
+        this.expenseService = expenseService;
+        this.settlementEngine = settlementEngine;
+    }
+
+    /**
+     * Suggested transfers that settle every balance in the group, per currency.
+     * Balances come from the materialized balance table; members are compacted
+     * to ordinals so the engine works on a plain long[].
+     */
+    public SettlementResponseDto settleGroup(Long groupId) {
+        Map<String, List<MemberBalanceDto>> byCurrency = new LinkedHashMap<>();
+        for (MemberBalanceDto balance : expenseService.getBalances(groupId).balances()) {
+            byCurrency.computeIfAbsent(balance.currency(), c -> new ArrayList<>()).add(balance);
+        }
+
+        List<TransferDto> transfers = new ArrayList<>();
+        byCurrency.forEach((currency, balances) -> {
+            long[] amounts = new long[balances.size()];
+            for (int i = 0; i < amounts.length; i++) {
+                amounts[i] = balances.get(i).netMinor();
+            }
+
+            SettlementPlan plan = settlementEngine.settle(amounts);
+            for (int i = 0; i < plan.size(); i++) {
+                transfers.add(new TransferDto(
+                        balances.get(plan.from(i)).userId(),
+                        balances.get(plan.to(i)).userId(),
+                        plan.amount(i),
+                        currency));
+            }
+        });
+
+        log.debug("Settlement for group ID: {} needs {} transfers", groupId, transfers.size());
+        return new SettlementResponseDto(groupId, transfers);
+    }
+}
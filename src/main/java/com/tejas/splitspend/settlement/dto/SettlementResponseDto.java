@@ -0,0 +1,9 @@
+package com.tejas.splitspend.settlement.dto;
+
+import java.util.List;
+
+public record SettlementResponseDto(
+        Long groupId,
+        List<TransferDto> transfers
+) {
+}
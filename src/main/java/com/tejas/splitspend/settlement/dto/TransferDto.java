@@ -0,0 +1,9 @@
+package com.tejas.splitspend.settlement.dto;
+
+public record TransferDto(
+        Long fromUserId,
+        Long toUserId,
+        long amountMinor,
+        String currency
+) {
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.ZonedDateTime;
 
@@ -16,23 +18,35 @@ import java.time.ZonedDateTime;
  *
  * Design Decisions:
  *  Email and phone number are unique to ensure one account per person
+ *  Unique constraints are named so signup can map a violation to the right error
  *  Password stored as hashed string (hashing handled in service layer)
  *  Timestamps auto-managed via JPA lifecycle callbacks (@PrePersist/@PreUpdate)
  *  No cascade operations - user is a leaf entity with no ownership of other entities
+ *  Second-level cached (READ_WRITE): every lookup by id is served from memory once warm.
+ *  Updates go through the entity, so the cached copy is replaced at flush, after @PreUpdate has run.
  */
 
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@Table(name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = User.UNIQUE_EMAIL, columnNames = "email"),
+                @UniqueConstraint(name = User.UNIQUE_PHONE_NUMBER, columnNames = "phone_number")
+        })
 public class User {
 
+    public static final String UNIQUE_EMAIL = "uk_users_email";
+    public static final String UNIQUE_PHONE_NUMBER = "uk_users_phone_number";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long userId;
 
     @Column(nullable = false)
-    private String password; // TODO: Implement BCrypt hashing in service layer
+    private String password;
 
     @Column(nullable = false, updatable = false)
     private ZonedDateTime createdAt;
@@ -40,11 +54,11 @@ public class User {
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     @Email
     private String email;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String phoneNumber;
 
     @Column
@@ -1,5 +1,6 @@
 package com.tejas.splitspend.user;
 
+import com.tejas.splitspend.auth.TokenService;
 import com.tejas.splitspend.user.dto.LoginRequestDto;
 import com.tejas.splitspend.user.dto.LoginResponseDto;
 import com.tejas.splitspend.user.dto.UserResponseDto;
@@ -17,9 +18,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final TokenService tokenService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, TokenService tokenService) {
         this.userService = userService;
+        this.tokenService = tokenService;
     }
 
     @PostMapping("/signup")
@@ -32,7 +35,7 @@ public class UserController {
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDto> userLogin(@Valid @RequestBody LoginRequestDto requestDto) {
         User user = userService.userLogin(requestDto);
-        LoginResponseDto response = LoginResponseDto.From(user);
+        LoginResponseDto response = LoginResponseDto.From(user, tokenService.issue(user.getUserId()));
         return ResponseEntity.ok(response);
     }
 }
@@ -1,52 +1,73 @@
 package com.tejas.splitspend.user;
 
+import com.tejas.splitspend.common.ConstraintViolations;
 import com.tejas.splitspend.user.dto.LoginRequestDto;
 import com.tejas.splitspend.user.dto.UserSignupDto;
 import com.tejas.splitspend.user.exceptions.EmailAlreadyExistsException;
 import com.tejas.splitspend.user.exceptions.InvalidCredentialsException;
 import com.tejas.splitspend.user.exceptions.PhoneNumberAlreadyExistsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed("splitspend.service")
 public class UserService {
 
     private final UserRepository userRepository;
 
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
-    public UserService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
+    private final VerifiedCredentialCache credentialCache;
+
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher,
+                       VerifiedCredentialCache credentialCache) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.credentialCache = credentialCache;
     }
 
+    /*
+     * Single INSERT - the unique constraints on email and phone number decide conflicts,
+     * which also closes the race between two concurrent signups.
+     */
     public User createUser(UserSignupDto userSignupDto) {
-        if (userRepository.existsByEmail(userSignupDto.email())) {
-            throw new EmailAlreadyExistsException("User with email " + userSignupDto.email() + " already exists");
-        }
-
-        // Check if phone number already exists
-        if (userRepository.existsByPhoneNumber(userSignupDto.phoneNumber())) {
-            throw new PhoneNumberAlreadyExistsException("User with phone number " + userSignupDto.phoneNumber() + " already exists");
-        }
-
         User user = mapDtoToEntity(userSignupDto);
-        return userRepository.save(user);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolationOf(ex, User.UNIQUE_EMAIL)) {
+                throw new EmailAlreadyExistsException("User with email " + userSignupDto.email() + " already exists");
+            }
+            if (ConstraintViolations.isViolationOf(ex, User.UNIQUE_PHONE_NUMBER)) {
+                throw new PhoneNumberAlreadyExistsException("User with phone number " + userSignupDto.phoneNumber() + " already exists");
+            }
+            throw ex;
+        }
     }
 
     public User userLogin(LoginRequestDto loginRequestDto) {
         User user = userRepository.findByEmail(loginRequestDto.email())
                 .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
-        if (!passwordEncoder.matches(loginRequestDto.password(), user.getPassword())) {
+        if (credentialCache.isVerified(loginRequestDto.email(), loginRequestDto.password(), user.getPassword())) {
+            return user;
+        }
+        if (!passwordHasher.matches(loginRequestDto.password(), user.getPassword())) {
             throw new InvalidCredentialsException(
                     "Invalid email or password"
             );
         }
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            // Stored hash uses an older, cheaper cost - upgrade it while we have the plain password
+            user.setPassword(hashPassword(loginRequestDto.password()));
+            user = userRepository.save(user);
+        }
+        credentialCache.remember(loginRequestDto.email(), loginRequestDto.password(), user.getPassword());
         return user;
     }
 
     private String hashPassword(String plainPassword) {
-        return passwordEncoder.encode(plainPassword);
+        return passwordHasher.encode(plainPassword);
     }
 
     private User mapDtoToEntity(UserSignupDto signupDto) {
@@ -0,0 +1,88 @@
+package com.tejas.splitspend.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Short-lived memory of credentials that recently passed BCrypt verification.
+ *
+ * Entries are keyed by an HMAC-SHA256 of email + password under a per-process random key,
+ * so neither the password nor a reusable hash of it is ever held. Each entry remembers the
+ * stored password hash it was verified against; a password change produces a new hash and
+ * the entry stops matching.
+ *
+ * Bounded by size and by TTL (Caffeine, so lookups on the login path take no shared lock).
+ */
+@Component
+public class VerifiedCredentialCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec digestKey;
+    private final int maxSize;
+    // digest -> stored password hash it was verified against
+    private final Cache<String, String> entries;
+
+    @Autowired
+    public VerifiedCredentialCache(@Value("${splitspend.credential-cache.ttl:5m}") Duration ttl,
+                                   @Value("${splitspend.credential-cache.max-size:10000}") int maxSize) {
+        this(ttl, maxSize, Clock.systemUTC());
+    }
+
+    VerifiedCredentialCache(Duration ttl, int maxSize, Clock clock) {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.digestKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfterWrite(ttl)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                // evict on the writing thread, so the size bound holds as soon as remember returns
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /*
+     * True if this email/password pair was verified against exactly this stored hash within the TTL.
+     */
+    public boolean isVerified(String email, String rawPassword, String passwordHash) {
+        if (maxSize <= 0) {
+            return false;
+        }
+        return passwordHash.equals(entries.getIfPresent(digest(email, rawPassword)));
+    }
+
+    public void remember(String email, String rawPassword, String passwordHash) {
+        if (maxSize <= 0) {
+            return;
+        }
+        entries.put(digest(email, rawPassword), passwordHash);
+    }
+
+    private String digest(String email, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(email.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(rawPassword.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+}
@@ -1,29 +1,30 @@
 package com.tejas.splitspend.user.dto;
 
+import com.tejas.splitspend.auth.dto.TokenResponseDto;
 import com.tejas.splitspend.user.User;
 
 import java.time.ZonedDateTime;
 
 /*
  * Response DTO for successful login.
- * Returns user details (no password).
-
- * TODO Phase 3: Add JWT token field.
+ * Returns user details (no password) and a bearer token pair for later requests.
  */
 public record LoginResponseDto(
         Long userId,
         String name,
         String email,
         String phoneNumber,
-        ZonedDateTime createdAt) {
+        ZonedDateTime createdAt,
+        TokenResponseDto tokens) {
 
-    public static LoginResponseDto From(User user) {
+    public static LoginResponseDto From(User user, TokenResponseDto tokens) {
         return new LoginResponseDto(
                 user.getUserId(),
                 user.getName(),
                 user.getEmail(),
                 user.getPhoneNumber(),
-                user.getCreatedAt()
+                user.getCreatedAt(),
+                tokens
         );
     }
 }
@@ -0,0 +1,7 @@
+package com.tejas.splitspend.user.exceptions;
+
+public class PasswordHashingUnavailableException extends UserExceptions {
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
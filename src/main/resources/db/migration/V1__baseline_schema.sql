@@ -0,0 +1,99 @@
+-- Schema as ddl-auto=update built it before migrations were introduced.
+-- Existing databases are baselined at this version and skip it (spring.flyway.baseline-on-migrate).
+
+create table users (
+    user_id      bigint       not null auto_increment,
+    name         varchar(255) not null,
+    email        varchar(255) not null,
+    phone_number varchar(255) not null,
+    password     varchar(255) not null,
+    created_at   datetime(6)  not null,
+    updated_at   datetime(6),
+    primary key (user_id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_phone_number unique (phone_number)
+) engine=InnoDB;
+
+create table user_groups (
+    group_id     bigint       not null auto_increment,
+    group_name   varchar(255) not null,
+    member_count integer      not null,
+    created_by   bigint,
+    created_at   datetime(6)  not null,
+    updated_at   datetime(6),
+    primary key (group_id)
+) engine=InnoDB;
+
+-- Ids come from table-backed sequences handed out in blocks of 50 (see GroupMember, Expense, ExpenseSplit)
+create table group_members_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into group_members_seq values (1);
+
+create table group_members (
+    group_member_id bigint      not null,
+    group_id        bigint      not null,
+    user_id         bigint      not null,
+    role            enum ('ADMIN','MEMBER') not null,
+    created_at      datetime(6) not null,
+    updated_at      datetime(6),
+    primary key (group_member_id),
+    -- Also serves (group_id, user_id) membership probes and group_id scans
+    constraint uk_group_members_group_user unique (group_id, user_id),
+    constraint fk_group_members_group foreign key (group_id) references user_groups (group_id),
+    constraint fk_group_members_user foreign key (user_id) references users (user_id)
+) engine=InnoDB;
+
+-- "Groups of a user" lookups
+create index idx_group_members_user on group_members (user_id);
+
+create table expenses_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into expenses_seq values (1);
+
+create table expenses (
+    expense_id        bigint       not null,
+    group_id          bigint       not null,
+    paid_by_member_id bigint       not null,
+    amount_minor      bigint       not null,
+    currency          varchar(3)   not null,
+    description       varchar(255) not null,
+    split_type        enum ('EQUAL','EXACT') not null,
+    created_at        datetime(6)  not null,
+    primary key (expense_id),
+    constraint fk_expenses_group foreign key (group_id) references user_groups (group_id),
+    constraint fk_expenses_paid_by foreign key (paid_by_member_id) references group_members (group_member_id)
+) engine=InnoDB;
+
+create index idx_expenses_group_created on expenses (group_id, created_at);
+
+create table expense_splits_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into expense_splits_seq values (1);
+
+create table expense_splits (
+    expense_split_id bigint not null,
+    expense_id       bigint not null,
+    member_id        bigint not null,
+    share_minor      bigint not null,
+    primary key (expense_split_id),
+    constraint fk_expense_splits_expense foreign key (expense_id) references expenses (expense_id),
+    constraint fk_expense_splits_member foreign key (member_id) references group_members (group_member_id)
+) engine=InnoDB;
+
+create index idx_expense_splits_expense on expense_splits (expense_id);
+create index idx_expense_splits_member on expense_splits (member_id);
+
+create table member_balances (
+    member_id bigint     not null,
+    currency  varchar(3) not null,
+    group_id  bigint     not null,
+    user_id   bigint     not null,
+    net_minor bigint     not null,
+    primary key (member_id, currency),
+    constraint fk_member_balances_member foreign key (member_id) references group_members (group_member_id)
+) engine=InnoDB;
+
+create index idx_member_balances_group on member_balances (group_id);
@@ -0,0 +1,2 @@
+-- Groups created by a user; ddl-auto=update never added this one
+create index idx_user_groups_created_by on user_groups (created_by);
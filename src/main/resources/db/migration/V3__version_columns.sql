@@ -0,0 +1,3 @@
+-- Optimistic locking (@Version) on groups and memberships; existing rows start at version 0
+alter table user_groups add column version bigint not null default 0;
+alter table group_members add column version bigint not null default 0;
@@ -0,0 +1,11 @@
+-- Domain events written in the same transaction as the change they describe (see OutboxRelay)
+create table outbox_events (
+    outbox_event_id bigint        not null auto_increment,
+    event_type      varchar(64)   not null,
+    payload         varchar(2000) not null,
+    created_at      datetime(6)   not null,
+    dispatched_at   datetime(6),
+    primary key (outbox_event_id)
+) engine=InnoDB;
+
+create index idx_outbox_events_pending on outbox_events (dispatched_at, outbox_event_id);
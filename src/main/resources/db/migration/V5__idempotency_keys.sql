@@ -0,0 +1,13 @@
+-- Idempotency-Key claims and their responses, when splitspend.idempotency.store=database (see JdbcIdempotencyStore)
+create table idempotency_keys (
+    idempotency_key varchar(255) not null,
+    request_hash    char(64)     not null,
+    status_code     integer,
+    content_type    varchar(255),
+    response_body   blob,
+    created_at      datetime(6)  not null,
+    expires_at      datetime(6)  not null,
+    primary key (idempotency_key)
+) engine=InnoDB;
+
+create index idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
@@ -0,0 +1,7 @@
+-- Claims become leases held by one relay instance, so several instances can drain the outbox (see OutboxRelay).
+-- Rows dispatched under the old marker lose it and are delivered once more.
+drop index idx_outbox_events_pending on outbox_events;
+alter table outbox_events drop column dispatched_at;
+alter table outbox_events add column claimed_by varchar(64);
+alter table outbox_events add column claimed_until datetime(6);
+create index idx_outbox_events_pending on outbox_events (claimed_until, outbox_event_id);
@@ -0,0 +1,3 @@
+-- Identifies the request holding a claim, so a request whose claim was taken over cannot
+-- complete or release the new holder's row (see JdbcIdempotencyStore)
+alter table idempotency_keys add column claim_token varchar(64);
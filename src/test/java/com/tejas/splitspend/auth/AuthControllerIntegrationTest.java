@@ -0,0 +1,129 @@
+package com.tejas.splitspend.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tejas.splitspend.auth.dto.RefreshTokenRequestDto;
+import com.tejas.splitspend.common.SecurityConfig;
+import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.user.dto.LoginRequestDto;
+import com.tejas.splitspend.user.dto.UserSignupDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+@Transactional
+class AuthControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void me_ReturnsIdentityFromToken_WithoutAnySql() throws Exception {
+        JsonNode login = signupAndLogin("auth-me@example.com", "9876543301", true);
+        String accessToken = login.path("tokens").path("accessToken").asText();
+
+        mockMvc.perform(get("/v1/auth/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(login.path("userId").asLong()))
+                .andExpect(jsonPath("$.groupIds.length()").value(1));
+
+        DistributionSummary statements = meterRegistry.find("splitspend.request.sql.statements")
+                .tags("uri", "/v1/auth/me").summary();
+        assertNotNull(statements);
+        assertEquals(0, statements.max());
+    }
+
+    @Test
+    void me_Returns401_WithoutToken_OrWithBadToken() throws Exception {
+        mockMvc.perform(get("/v1/auth/me"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/v1/auth/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer not.a.token"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"))
+                .andExpect(jsonPath("$.status").value(401));
+    }
+
+    @Test
+    void refresh_ReturnsNewPair_AndRejectsReusedRefreshToken() throws Exception {
+        String refreshToken = signupAndLogin("auth-refresh@example.com", "9876543302", false)
+                .path("tokens").path("refreshToken").asText();
+        String body = objectMapper.writeValueAsString(new RefreshTokenRequestDto(refreshToken));
+
+        mockMvc.perform(post("/v1/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").exists())
+                .andExpect(jsonPath("$.refreshToken").exists());
+
+        mockMvc.perform(post("/v1/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Token has been revoked"));
+    }
+
+    @Test
+    void logout_RevokesAccessToken() throws Exception {
+        JsonNode tokens = signupAndLogin("auth-logout@example.com", "9876543303", false).path("tokens");
+        String bearer = "Bearer " + tokens.path("accessToken").asText();
+
+        mockMvc.perform(post("/v1/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RefreshTokenRequestDto(tokens.path("refreshToken").asText()))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/v1/auth/me").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private JsonNode signupAndLogin(String email, String phoneNumber, boolean withGroup) throws Exception {
+        String signup = mockMvc.perform(post("/v1/user/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UserSignupDto("Auth User", email, phoneNumber, "password123"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long userId = objectMapper.readTree(signup).path("userId").asLong();
+
+        if (withGroup) {
+            mockMvc.perform(post("/v1/groups/create")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateGroupDto("Auth Group", userId))))
+                    .andExpect(status().isCreated());
+        }
+
+        String login = mockMvc.perform(post("/v1/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequestDto(email, "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(login);
+    }
+}
@@ -0,0 +1,68 @@
+package com.tejas.splitspend.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevokedTokenFilterTest {
+
+    @Test
+    void mightBeRevoked_NoFalseNegatives_AndFewFalsePositives() {
+        RevokedTokenFilter filter = new RevokedTokenFilter(1000, 0.001, Duration.ofDays(1), Clock.systemUTC());
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            filter.revoke(tokenId);
+            revoked.add(tokenId);
+        }
+
+        revoked.forEach(tokenId -> assertTrue(filter.mightBeRevoked(tokenId)));
+        long falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightBeRevoked(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        // 0.1% target; allow generous slack for randomness
+        assertTrue(falsePositives < 500, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void mightBeRevoked_KeepsIdsForOneRetentionPeriod_ThenForgetsThem() {
+        Instant[] now = {Instant.parse("2026-01-01T00:00:00Z")};
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        RevokedTokenFilter filter = new RevokedTokenFilter(100, 0.001, Duration.ofHours(1), clock);
+        String tokenId = UUID.randomUUID().toString();
+        filter.revoke(tokenId);
+
+        now[0] = now[0].plus(Duration.ofMinutes(90));
+        assertTrue(filter.mightBeRevoked(tokenId));
+
+        now[0] = now[0].plus(Duration.ofMinutes(90));
+        assertFalse(filter.mightBeRevoked(tokenId));
+    }
+}
@@ -0,0 +1,229 @@
+package com.tejas.splitspend.auth;
+
+import com.tejas.splitspend.auth.dto.TokenResponseDto;
+import com.tejas.splitspend.auth.exceptions.InvalidTokenException;
+import com.tejas.splitspend.group.GroupService;
+import com.tejas.splitspend.group.MemberRole;
+import com.tejas.splitspend.group.dto.UserGroupDto;
+import com.tejas.splitspend.group.dto.UserGroupsResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    private static final byte[] SECRET = new byte[32];
+
+    @Mock
+    private GroupService groupService;
+
+    private MutableClock clock;
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setup() {
+        clock = new MutableClock();
+        tokenService = newService(SECRET);
+    }
+
+    @Test
+    void authenticate_ReturnsUserAndGroups_FromIssuedToken() {
+        stubGroups(10L, 20L);
+
+        TokenResponseDto tokens = tokenService.issue(1L);
+        AuthenticatedUser user = tokenService.authenticate(tokens.accessToken());
+
+        assertEquals(1L, user.userId());
+        assertEquals(Set.of(10L, 20L), user.groupIds());
+        assertEquals(900, tokens.expiresIn());
+    }
+
+    @Test
+    void authenticate_Throws_WhenSignatureTampered() {
+        stubGroups(10L);
+        String token = tokenService.issue(1L).accessToken();
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.authenticate(tampered));
+    }
+
+    @Test
+    void authenticate_Throws_WhenSignedWithAnotherSecret() {
+        stubGroups(10L);
+        byte[] otherSecret = new byte[32];
+        Arrays.fill(otherSecret, (byte) 7);
+        String foreign = newService(otherSecret).issue(1L).accessToken();
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.authenticate(foreign));
+    }
+
+    @Test
+    void authenticate_Throws_AfterExpiry_EvenWhenCached() {
+        stubGroups(10L);
+        String token = tokenService.issue(1L).accessToken();
+        tokenService.authenticate(token);
+
+        clock.advance(Duration.ofMinutes(16));
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.authenticate(token));
+    }
+
+    @Test
+    void authenticate_AcceptsToken_SignedBeforeKeyRotation() {
+        stubGroups(10L);
+        String token = tokenService.issue(1L).accessToken();
+
+        clock.advance(Duration.ofMinutes(10));
+
+        // a fresh instance sharing the secret has no cache and only the derived keys
+        assertEquals(1L, newService(SECRET).authenticate(token).userId());
+    }
+
+    @Test
+    void authenticate_Throws_ForRefreshToken() {
+        stubGroups(10L);
+        String refreshToken = tokenService.issue(1L).refreshToken();
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.authenticate(refreshToken));
+    }
+
+    @Test
+    void refresh_IssuesNewPair_AndRejectsReplayOfOldRefreshToken() {
+        stubGroups(10L);
+        TokenResponseDto first = tokenService.issue(1L);
+
+        stubGroups(10L, 30L);
+        TokenResponseDto second = tokenService.refresh(first.refreshToken());
+
+        assertEquals(Set.of(10L, 30L), tokenService.authenticate(second.accessToken()).groupIds());
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(first.refreshToken()));
+    }
+
+    @Test
+    void refresh_KeepsAccepting_LongAfterRefreshesOutnumberExpectedRevocations() {
+        stubGroups(10L);
+        TokenResponseDto tokens = tokenService.issue(1L);
+
+        // newService sizes the revocation filter for 1000 ids
+        for (int i = 0; i < 5_000; i++) {
+            tokens = tokenService.refresh(tokens.refreshToken());
+        }
+
+        assertEquals(Set.of(10L), tokenService.authenticate(tokens.accessToken()).groupIds());
+    }
+
+    @Test
+    void refresh_AcceptsNoReplay_UntilTheRefreshTokenExpires() {
+        stubGroups(10L);
+        String refreshToken = tokenService.issue(1L).refreshToken();
+        tokenService.refresh(refreshToken);
+
+        clock.advance(Duration.ofDays(14).minusSeconds(1));
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(refreshToken));
+    }
+
+    @Test
+    void refresh_GivesOneNewPair_WhenReplaysRace() throws Exception {
+        stubGroups(10L);
+        String refreshToken = tokenService.issue(1L).refreshToken();
+
+        int racers = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TokenResponseDto>> refreshes = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(racers)) {
+            Callable<TokenResponseDto> refresh = () -> {
+                start.await();
+                return tokenService.refresh(refreshToken);
+            };
+            for (int i = 0; i < racers; i++) {
+                refreshes.add(executor.submit(refresh));
+            }
+            start.countDown();
+        }
+
+        int succeeded = 0;
+        for (Future<TokenResponseDto> result : refreshes) {
+            try {
+                result.get();
+                succeeded++;
+            } catch (ExecutionException ex) {
+                assertInstanceOf(InvalidTokenException.class, ex.getCause());
+            }
+        }
+        assertEquals(1, succeeded);
+    }
+
+    @Test
+    void revoke_RejectsAccessAndRefreshTokens() {
+        stubGroups(10L);
+        TokenResponseDto tokens = tokenService.issue(1L);
+        tokenService.authenticate(tokens.accessToken());
+
+        tokenService.revoke(tokens.refreshToken(), tokens.accessToken());
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.authenticate(tokens.accessToken()));
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(tokens.refreshToken()));
+        verify(groupService).getUserGroups(1L);
+    }
+
+    private TokenService newService(byte[] secret) {
+        return new TokenService(groupService, secret, Duration.ofMinutes(15), Duration.ofDays(14),
+                Duration.ofMinutes(5), 100, 1000, clock);
+    }
+
+    private void stubGroups(Long... groupIds) {
+        List<UserGroupDto> groups = Arrays.stream(groupIds)
+                .map(groupId -> new UserGroupDto(groupId, "Group " + groupId, 2, MemberRole.MEMBER))
+                .toList();
+        when(groupService.getUserGroups(1L)).thenReturn(new UserGroupsResponseDto(1L, groups));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
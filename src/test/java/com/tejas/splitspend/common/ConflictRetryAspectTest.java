@@ -0,0 +1,83 @@
+package com.tejas.splitspend.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConflictRetryAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void retry_ReRunsMethod_UntilItWinsTheRace() {
+        Writer writer = proxy(new Writer(2, new ObjectOptimisticLockingFailureException("Group", 1L)));
+
+        assertEquals("written", writer.write());
+        assertEquals(3, writer.calls());
+        assertEquals(2, conflicts("retried").count());
+        assertNull(meterRegistry.find("splitspend.optimistic.conflicts").tags("outcome", "exhausted").counter());
+    }
+
+    @Test
+    void retry_Rethrows_WhenAttemptsRunOut() {
+        Writer writer = proxy(new Writer(10, new ObjectOptimisticLockingFailureException("Group", 1L)));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, writer::write);
+        assertEquals(3, writer.calls());
+        assertEquals(2, conflicts("retried").count());
+        assertEquals(1, conflicts("exhausted").count());
+    }
+
+    @Test
+    void retry_DoesNotRetry_OtherFailures() {
+        Writer writer = proxy(new Writer(1, new DataIntegrityViolationException("duplicate")));
+
+        assertThrows(DataIntegrityViolationException.class, writer::write);
+        assertEquals(1, writer.calls());
+        assertNull(meterRegistry.find("splitspend.optimistic.conflicts").counter());
+    }
+
+    private Writer proxy(Writer target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ConflictRetryAspect(meterRegistry, 3, Duration.ofMillis(1), Duration.ofMillis(2)));
+        return factory.getProxy();
+    }
+
+    private Counter conflicts(String outcome) {
+        Counter counter = meterRegistry.find("splitspend.optimistic.conflicts")
+                .tags("method", "Writer.write", "outcome", outcome).counter();
+        assertNotNull(counter);
+        return counter;
+    }
+
+    static class Writer {
+        private final int failures;
+        private final RuntimeException failure;
+        private int calls;
+
+        Writer(int failures, RuntimeException failure) {
+            this.failures = failures;
+            this.failure = failure;
+        }
+
+        @RetryOnConflict
+        public String write() {
+            if (calls++ < failures) {
+                throw failure;
+            }
+            return "written";
+        }
+
+        public int calls() {
+            return calls;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.tejas.splitspend.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyBeansPostProcessorTest {
+
+    @Test
+    void postProcessBeanFactory_MarksBeansFromListedPackagesLazy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("docs", new RootBeanDefinition("org.springdoc.webmvc.api.OpenApiWebMvcResource"));
+        beanFactory.registerBeanDefinition("metrics", new RootBeanDefinition(MetricsConfig.class));
+
+        new LazyBeansPostProcessor(List.of("org.springdoc")).postProcessBeanFactory(beanFactory);
+
+        assertTrue(beanFactory.getBeanDefinition("docs").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("metrics").isLazyInit());
+    }
+
+    @Test
+    void postProcessBeanFactory_UsesDeclaringConfiguration_ForFactoryMethodBeans() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("springDocConfiguration",
+                new RootBeanDefinition("org.springdoc.core.configuration.SpringDocConfiguration"));
+        beanFactory.registerBeanDefinition("openApiResource", BeanDefinitionBuilder.genericBeanDefinition()
+                .setFactoryMethodOnBean("openApiResource", "springDocConfiguration")
+                .getBeanDefinition());
+
+        new LazyBeansPostProcessor(List.of("org.springdoc")).postProcessBeanFactory(beanFactory);
+
+        assertTrue(beanFactory.getBeanDefinition("openApiResource").isLazyInit());
+    }
+
+    @Test
+    void postProcessBeanFactory_KeepsBeansWithStartupCallbacksEager() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("docsUi",
+                new RootBeanDefinition("org.springdoc.core.configuration.SpringDocUIConfiguration"));
+
+        new LazyBeansPostProcessor(List.of("org.springdoc")).postProcessBeanFactory(beanFactory);
+
+        assertFalse(beanFactory.getBeanDefinition("docsUi").isLazyInit());
+    }
+}
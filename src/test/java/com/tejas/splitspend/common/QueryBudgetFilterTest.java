@@ -0,0 +1,65 @@
+package com.tejas.splitspend.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryBudgetFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryBudgetFilter filter = new QueryBudgetFilter(meterRegistry, 2);
+
+    @Test
+    void doFilter_RecordsStatsPerRequest() throws Exception {
+        MockHttpServletRequest request = request();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestQueryStats.statementPrepared();
+            RequestQueryStats.entityLoaded();
+            RequestQueryStats.cacheGet(true);
+            RequestQueryStats.cacheGet(false);
+        });
+
+        DistributionSummary statements = meterRegistry.find("splitspend.request.sql.statements")
+                .tags("method", "POST", "uri", "/v1/groups/member/add").summary();
+        assertNotNull(statements);
+        assertEquals(1, statements.totalAmount());
+        assertEquals(1, meterRegistry.find("splitspend.request.cache.hits").summary().totalAmount());
+        assertEquals(1, meterRegistry.find("splitspend.request.cache.misses").summary().totalAmount());
+        assertNull(meterRegistry.find("splitspend.request.query.budget.exceeded").counter());
+    }
+
+    @Test
+    void doFilter_CountsRequest_WhenOverBudget() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 3; i++) {
+                RequestQueryStats.statementPrepared();
+            }
+        });
+
+        Counter exceeded = meterRegistry.find("splitspend.request.query.budget.exceeded")
+                .tags("uri", "/v1/groups/member/add").counter();
+        assertNotNull(exceeded);
+        assertEquals(1, exceeded.count());
+    }
+
+    @Test
+    void hooks_AreNoOps_OutsideRequest() {
+        assertDoesNotThrow(() -> {
+            RequestQueryStats.statementPrepared();
+            RequestQueryStats.collectionFetched();
+        });
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/groups/member/add");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/groups/member/add");
+        return request;
+    }
+}
@@ -0,0 +1,129 @@
+package com.tejas.splitspend.common;
+
+import com.tejas.splitspend.group.GroupService;
+import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.group.dto.GroupResponseDto;
+import com.tejas.splitspend.group.dto.UserGroupDto;
+import com.tejas.splitspend.user.User;
+import com.tejas.splitspend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Two in-memory H2 databases stand in for primary and replica. Nothing replicates between
+ * them, so which one a read hit is visible from the rows it returns.
+ * Not @Transactional: a test-managed transaction is read-write and would pin everything to the primary.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "splitspend.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect"
+})
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        // a real replica gets its schema through replication
+        Flyway.configure().dataSource(replicaDataSource).load().migrate();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcTemplate database : List.of(primary, replica)) {
+            database.update("delete from group_members");
+            database.update("delete from user_groups");
+            database.update("delete from users");
+            database.update("delete from outbox_events");
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void readOnlyTransaction_ReadsReplica() {
+        replica.update("insert into user_groups (group_name, member_count, created_by, created_at, version) "
+                + "values ('Replica Trip', 1, 1, current_timestamp, 0)");
+
+        assertEquals(List.of("Replica Trip"), groupNames());
+    }
+
+    @Test
+    void writes_GoToPrimary() {
+        User creator = userRepository.save(new User("Primary Owner", "primary.owner@example.com", "9300000001", "hashed"));
+
+        groupService.createGroup(new CreateGroupDto("Primary Trip", creator.getUserId()));
+
+        assertEquals(1, primary.queryForObject("select count(*) from user_groups", Integer.class));
+        assertEquals(0, replica.queryForObject("select count(*) from user_groups", Integer.class));
+        assertTrue(groupNames().isEmpty());
+    }
+
+    @Test
+    void readOnlyTransaction_ReadsPrimary_AfterWriteInSameRequest() {
+        User creator = userRepository.save(new User("Sticky Owner", "sticky.owner@example.com", "9300000002", "hashed"));
+
+        ReadYourWrites.begin();
+        try {
+            groupService.createGroup(new CreateGroupDto("Sticky Trip", creator.getUserId()));
+
+            assertEquals(List.of("Sticky Trip"), groupNames());
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    @Test
+    void getUserGroups_LoadsFromPrimary_WhenReplicaLags() {
+        User creator = userRepository.save(new User("Lag Owner", "lag.owner@example.com", "9300000003", "hashed"));
+        groupService.getUserGroups(creator.getUserId());
+
+        // a later request: nothing pinned, and the replica never sees the write
+        groupService.createGroup(new CreateGroupDto("Lagging Trip", creator.getUserId()));
+
+        assertEquals(List.of("Lagging Trip"), groupService.getUserGroups(creator.getUserId()).groups().stream()
+                .map(UserGroupDto::groupName)
+                .toList());
+    }
+
+    private List<String> groupNames() {
+        return groupService.getGroups(null, 10).groups().stream()
+                .map(GroupResponseDto::groupName)
+                .toList();
+    }
+}
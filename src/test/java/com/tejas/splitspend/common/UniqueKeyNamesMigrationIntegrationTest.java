@@ -0,0 +1,79 @@
+package com.tejas.splitspend.common;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Migrates a scratch H2 database to V7, breaks the unique keys the way a ddl-auto=update
+ * database can have them, then checks V8 restores the names ConstraintViolations matches.
+ */
+class UniqueKeyNamesMigrationIntegrationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:unique-key-names;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        flyway("7").migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("drop all objects");
+    }
+
+    @Test
+    void migrate_RenamesUniqueKey_WhenItHasAGeneratedName() {
+        jdbc.execute("alter table users drop constraint uk_users_email");
+        jdbc.execute("create unique index uk6dotkott2kjsp8vw4d0m25fb7 on users (email)");
+
+        flyway(null).migrate();
+
+        insertUser("9000000001");
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> insertUser("9000000002"));
+        assertTrue(ConstraintViolations.isViolationOf(ex, "uk_users_email"), ex.getMessage());
+    }
+
+    @Test
+    void migrate_AddsUniqueKey_WhenMissing() {
+        jdbc.execute("alter table users drop constraint uk_users_phone_number");
+
+        flyway(null).migrate();
+
+        insertUser("9000000003", "first@example.com");
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> insertUser("9000000003", "second@example.com"));
+        assertTrue(ConstraintViolations.isViolationOf(ex, "uk_users_phone_number"), ex.getMessage());
+    }
+
+    private Flyway flyway(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .javaMigrations(new UniqueKeyNamesMigration());
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private void insertUser(String phoneNumber) {
+        insertUser(phoneNumber, "same@example.com");
+    }
+
+    private void insertUser(String phoneNumber, String email) {
+        jdbc.update("insert into users (name, email, phone_number, password, created_at) "
+                + "values ('Test', ?, ?, 'hashed', current_timestamp)", email, phoneNumber);
+    }
+}
@@ -0,0 +1,102 @@
+package com.tejas.splitspend.expense;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tejas.splitspend.expense.dto.CreateExpenseDto;
+import com.tejas.splitspend.expense.dto.SplitShareDto;
+import com.tejas.splitspend.group.Group;
+import com.tejas.splitspend.group.GroupService;
+import com.tejas.splitspend.group.dto.AddGroupMembersDto;
+import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.user.User;
+import com.tejas.splitspend.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.tejas.splitspend.common.fixtures.getValidUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ExpenseControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Test
+    void createExpense_Success() throws Exception {
+        User payer = userRepository.save(getValidUser());
+        User friend = userRepository.save(new User("Asha", "asha@example.com", "9876500000", "hashed"));
+        Group group = groupService.createGroup(new CreateGroupDto("Goa Trip 2026", payer.getUserId()));
+        groupService.addMember(new AddGroupMembersDto(group.getGroupId(), friend.getUserId()));
+
+        CreateExpenseDto dto = new CreateExpenseDto(group.getGroupId(), payer.getUserId(), 1001L, "INR",
+                "Beach shack dinner", SplitType.EQUAL,
+                List.of(new SplitShareDto(payer.getUserId(), null), new SplitShareDto(friend.getUserId(), null)));
+
+        mockMvc.perform(post("/v1/expenses/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.expenseId").exists())
+                .andExpect(jsonPath("$.amountMinor").value(1001))
+                .andExpect(jsonPath("$.splits[0].shareMinor").value(501))
+                .andExpect(jsonPath("$.splits[1].shareMinor").value(500));
+
+        mockMvc.perform(get("/v1/expenses/group/{groupId}/balances", group.getGroupId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balances.length()").value(2))
+                .andExpect(jsonPath("$.balances[?(@.userId == %d)].netMinor", payer.getUserId()).value(500))
+                .andExpect(jsonPath("$.balances[?(@.userId == %d)].netMinor", friend.getUserId()).value(-500));
+    }
+
+    @Test
+    void createExpense_Returns400_WhenTooManySplits() throws Exception {
+        List<SplitShareDto> splits = LongStream.rangeClosed(1, 501)
+                .mapToObj(userId -> new SplitShareDto(userId, null))
+                .toList();
+        CreateExpenseDto dto = new CreateExpenseDto(1L, 1L, 1000L, "INR", "Stadium tickets", SplitType.EQUAL, splits);
+
+        mockMvc.perform(post("/v1/expenses/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.splits").value("At most 500 participants per expense"));
+    }
+
+    @Test
+    void createExpense_Returns400_WhenPayerNotMember() throws Exception {
+        User payer = userRepository.save(getValidUser());
+        User outsider = userRepository.save(new User("Asha", "asha@example.com", "9876500000", "hashed"));
+        Group group = groupService.createGroup(new CreateGroupDto("Goa Trip 2026", payer.getUserId()));
+
+        CreateExpenseDto dto = new CreateExpenseDto(group.getGroupId(), outsider.getUserId(), 1000L, "INR",
+                "Taxi", SplitType.EQUAL, List.of(new SplitShareDto(payer.getUserId(), null)));
+
+        mockMvc.perform(post("/v1/expenses/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+}
@@ -0,0 +1,126 @@
+package com.tejas.splitspend.expense;
+
+import com.tejas.splitspend.expense.dto.CreateExpenseDto;
+import com.tejas.splitspend.expense.dto.SplitShareDto;
+import com.tejas.splitspend.expense.exceptions.InvalidExpenseException;
+import com.tejas.splitspend.group.Group;
+import com.tejas.splitspend.group.GroupMember;
+import com.tejas.splitspend.group.GroupMemberRepository;
+import com.tejas.splitspend.group.GroupRepository;
+import com.tejas.splitspend.group.MemberRole;
+import com.tejas.splitspend.user.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExpenseServiceTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    @Mock
+    private GroupMemberRepository groupMemberRepository;
+
+    @Mock
+    private MemberBalanceRepository memberBalanceRepository;
+
+    @InjectMocks
+    private ExpenseService expenseService;
+
+    @Test
+    void createExpense_SplitsEqually_WithRemainderToFirstParticipants() {
+        Group group = new Group("Goa Trip", 1L);
+        group.setGroupId(10L);
+        GroupMember payer = member(group, 1L);
+        GroupMember friend = member(group, 2L);
+        GroupMember other = member(group, 3L);
+
+        when(groupMemberRepository.findByGroupIdAndUserIds(eq(10L), any())).thenReturn(List.of(payer, friend, other));
+        when(groupRepository.getReferenceById(10L)).thenReturn(group);
+        when(expenseRepository.save(any(Expense.class))).thenAnswer(i -> i.getArgument(0));
+
+        CreateExpenseDto dto = new CreateExpenseDto(10L, 1L, 1000L, "INR", "Dinner", SplitType.EQUAL,
+                List.of(new SplitShareDto(1L, null), new SplitShareDto(2L, null), new SplitShareDto(3L, null)));
+
+        Expense result = expenseService.createExpense(dto);
+
+        assertEquals(1000L, result.getAmountMinor());
+        assertEquals(List.of(334L, 333L, 333L),
+                result.getSplits().stream().map(ExpenseSplit::getShareMinor).toList());
+        verify(memberBalanceRepository).applyDelta(1L, "INR", 10L, 1L, 666L);
+        verify(memberBalanceRepository).applyDelta(2L, "INR", 10L, 2L, -333L);
+        verify(memberBalanceRepository).applyDelta(3L, "INR", 10L, 3L, -333L);
+    }
+
+    @Test
+    void createExpense_Throws_WhenExactSharesDoNotAddUp() {
+        Group group = new Group("Goa Trip", 1L);
+        group.setGroupId(10L);
+
+        when(groupMemberRepository.findByGroupIdAndUserIds(eq(10L), any()))
+                .thenReturn(List.of(member(group, 1L), member(group, 2L)));
+
+        CreateExpenseDto dto = new CreateExpenseDto(10L, 1L, 1000L, "INR", "Dinner", SplitType.EXACT,
+                List.of(new SplitShareDto(1L, 600L), new SplitShareDto(2L, 300L)));
+
+        assertThrows(InvalidExpenseException.class, () -> expenseService.createExpense(dto));
+        verify(expenseRepository, never()).save(any(Expense.class));
+        verify(memberBalanceRepository, never()).applyDelta(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void computeShares_Throws_WhenExactSharesOverflowBackToAmount() {
+        // 2 * Long.MAX_VALUE + 1002 wraps around to exactly 1000
+        CreateExpenseDto dto = new CreateExpenseDto(10L, 1L, 1000L, "INR", "Dinner", SplitType.EXACT,
+                List.of(new SplitShareDto(1L, Long.MAX_VALUE), new SplitShareDto(2L, Long.MAX_VALUE),
+                        new SplitShareDto(3L, 1002L)));
+
+        assertThrows(InvalidExpenseException.class, () -> ExpenseService.computeShares(dto));
+    }
+
+    @Test
+    void computeShares_Throws_WhenExactShareIsNegative() {
+        CreateExpenseDto dto = new CreateExpenseDto(10L, 1L, 1000L, "INR", "Dinner", SplitType.EXACT,
+                List.of(new SplitShareDto(1L, 1500L), new SplitShareDto(2L, -500L)));
+
+        assertThrows(InvalidExpenseException.class, () -> ExpenseService.computeShares(dto));
+    }
+
+    @Test
+    void createExpense_Throws_WhenParticipantIsNotMember() {
+        Group group = new Group("Goa Trip", 1L);
+        group.setGroupId(10L);
+
+        when(groupMemberRepository.findByGroupIdAndUserIds(eq(10L), any()))
+                .thenReturn(List.of(member(group, 1L)));
+
+        CreateExpenseDto dto = new CreateExpenseDto(10L, 1L, 1000L, "INR", "Dinner", SplitType.EQUAL,
+                List.of(new SplitShareDto(1L, null), new SplitShareDto(99L, null)));
+
+        assertThrows(InvalidExpenseException.class, () -> expenseService.createExpense(dto));
+    }
+
+    private GroupMember member(Group group, Long userId) {
+        User user = new User("User " + userId, "user" + userId + "@example.com", "98765000" + userId, "hashed");
+        user.setUserId(userId);
+        GroupMember member = new GroupMember(group, user, MemberRole.MEMBER);
+        member.setGroupMemberId(userId);
+        return member;
+    }
+}
@@ -0,0 +1,98 @@
+package com.tejas.splitspend.group;
+
+import com.tejas.splitspend.group.dto.AddGroupMembersDto;
+import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.user.User;
+import com.tejas.splitspend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Not @Transactional: the second-level cache is only populated when a transaction commits.
+ * Rows are removed again in tearDown so other integration tests see an empty schema.
+ */
+@SpringBootTest
+class GroupCacheIntegrationTest {
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User creator;
+    private User friend;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        creator = userRepository.save(new User("Cache Owner", "cache.owner@example.com", "9000000001", "hashed"));
+        friend = userRepository.save(new User("Cache Friend", "cache.friend@example.com", "9000000002", "hashed"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (groupId != null) {
+            groupRepository.deleteById(groupId);
+        }
+        userRepository.deleteAll(List.of(creator, friend));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void lookups_AreCachedAfterFirstLoad() {
+        // IDENTITY inserts are not put in the cache, the first load is
+        groupId = groupService.createGroup(new CreateGroupDto("Goa Trip", creator.getUserId())).getGroupId();
+        transactionTemplate.executeWithoutResult(status -> groupRepository.findById(groupId));
+
+        assertTrue(entityManagerFactory.getCache().contains(Group.class, groupId));
+        assertTrue(entityManagerFactory.getCache().contains(User.class, creator.getUserId()));
+    }
+
+    @Test
+    void addMember_RefreshesCachedGroupAndMembers() {
+        groupId = groupService.createGroup(new CreateGroupDto("Goa Trip", creator.getUserId())).getGroupId();
+        // warm the members collection region
+        transactionTemplate.executeWithoutResult(status ->
+                groupRepository.findById(groupId).orElseThrow().getMembers().size());
+
+        groupService.addMember(new AddGroupMembersDto(groupId, friend.getUserId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Group group = groupRepository.findById(groupId).orElseThrow();
+            assertEquals(2, group.getMemberCount());
+            assertEquals(2, group.getMembers().size());
+            assertNotNull(group.getUpdatedAt());
+        });
+    }
+
+    @Test
+    void userUpdate_ReplacesCachedUser() {
+        creator.setName("Renamed Owner");
+        userRepository.save(creator);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User cached = userRepository.findById(creator.getUserId()).orElseThrow();
+            assertEquals("Renamed Owner", cached.getName());
+            assertNotNull(cached.getUpdatedAt());
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.tejas.splitspend.group;
+
+import com.tejas.splitspend.group.dto.AddGroupMembersBulkDto;
+import com.tejas.splitspend.group.dto.AddGroupMembersDto;
+import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.user.User;
+import com.tejas.splitspend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Not @Transactional: the adds have to commit from separate threads to race on the group's version.
+ * Rows are removed again in tearDown so other integration tests see an empty schema.
+ */
+@SpringBootTest
+class GroupConcurrencyIntegrationTest {
+
+    // every lost race means another add committed, so this many adds never exhaust the default 4 attempts
+    private static final int CONCURRENT_ADDS = 4;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i <= CONCURRENT_ADDS; i++) {
+            users.add(userRepository.save(new User("Racer " + i, "racer" + i + "@example.com",
+                    "910000000" + i, "hashed")));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (groupId != null) {
+            groupRepository.deleteById(groupId);
+        }
+        userRepository.deleteAll(users);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void addMember_ConcurrentAddsToOneGroup_AllSucceedAndCountEveryMember() throws Exception {
+        groupId = groupService.createGroup(new CreateGroupDto("Hot Group", users.get(0).getUserId())).getGroupId();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> adds = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_ADDS)) {
+            for (User user : users.subList(1, users.size())) {
+                adds.add(executor.submit(() -> {
+                    start.await();
+                    return groupService.addMember(new AddGroupMembersDto(groupId, user.getUserId()));
+                }));
+            }
+            start.countDown();
+            for (Future<?> add : adds) {
+                add.get();
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Group group = groupRepository.findById(groupId).orElseThrow();
+            assertEquals(CONCURRENT_ADDS + 1, group.getMemberCount());
+            assertEquals(CONCURRENT_ADDS + 1, group.getMembers().size());
+        });
+    }
+
+    @Test
+    void addMembers_ConcurrentBulkAddsToOneGroup_AllSucceedAndCountEveryMember() throws Exception {
+        groupId = groupService.createGroup(new CreateGroupDto("Hot Group", users.get(0).getUserId())).getGroupId();
+        List<Long> firstBatch = List.of(users.get(1).getUserId(), users.get(2).getUserId());
+        List<Long> secondBatch = List.of(users.get(3).getUserId(), users.get(4).getUserId());
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> adds = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (List<Long> batch : List.of(firstBatch, secondBatch)) {
+                adds.add(executor.submit(() -> {
+                    start.await();
+                    return groupService.addMembers(new AddGroupMembersBulkDto(groupId, batch));
+                }));
+            }
+            start.countDown();
+            for (Future<?> add : adds) {
+                add.get();
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Group group = groupRepository.findById(groupId).orElseThrow();
+            assertEquals(CONCURRENT_ADDS + 1, group.getMemberCount());
+            assertEquals(CONCURRENT_ADDS + 1, group.getMembers().size());
+        });
+    }
+}
@@ -1,10 +1,14 @@
 package com.tejas.splitspend.group;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tejas.splitspend.group.dto.AddGroupMembersBulkDto;
+import com.tejas.splitspend.group.dto.AddGroupMembersDto;
 import com.tejas.splitspend.group.dto.CreateGroupDto;
 import com.tejas.splitspend.user.User;
 import com.tejas.splitspend.common.SecurityConfig;
 import com.tejas.splitspend.user.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -16,7 +20,15 @@ import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static com.tejas.splitspend.common.fixtures.getValidUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
@@ -38,6 +50,12 @@ class GroupControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private GroupExportService groupExportService;
+
     @Test
     void createGroup_Success() throws Exception {
         // Create user first
@@ -55,4 +73,168 @@ class GroupControllerIntegrationTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.groupName").value("Goa Trip 2026"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.memberCount").value(1));
     }
+
+    @Test
+    void getGroups_ReturnsPageWithMemberCounts() throws Exception {
+        User user = userRepository.save(getValidUser());
+
+        for (String name : new String[]{"Goa Trip", "Flatmates", "Office Lunch"}) {
+            mockMvc.perform(post("/v1/groups/create")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateGroupDto(name, user.getUserId()))))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/v1/groups").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.groups.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.groups[0].memberCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").exists());
+    }
+
+    @Test
+    void addMember_Success_ThenRejectsDuplicate() throws Exception {
+        User creator = userRepository.save(getValidUser());
+        User friend = userRepository.save(new User("Asha", "asha@example.com", "9876500000", "hashed"));
+
+        String body = mockMvc.perform(post("/v1/groups/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateGroupDto("Goa Trip 2026", creator.getUserId()))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long groupId = objectMapper.readTree(body).get("groupId").asLong();
+
+        AddGroupMembersDto addDto = new AddGroupMembersDto(groupId, friend.getUserId());
+
+        mockMvc.perform(post("/v1/groups/member/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(addDto)))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.memberCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.members.length()").value(2));
+
+        mockMvc.perform(post("/v1/groups/member/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(addDto)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                        .value("Asha is already a member of this group"));
+    }
+
+    @Test
+    void addMembersBulk_ReportsOutcomePerUser() throws Exception {
+        User creator = userRepository.save(getValidUser());
+        User first = userRepository.save(new User("Asha", "asha@example.com", "9876500000", "hashed"));
+        User second = userRepository.save(new User("Ravi", "ravi@example.com", "9876500001", "hashed"));
+
+        String body = mockMvc.perform(post("/v1/groups/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateGroupDto("Team Offsite", creator.getUserId()))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long groupId = objectMapper.readTree(body).get("groupId").asLong();
+
+        AddGroupMembersBulkDto bulkDto = new AddGroupMembersBulkDto(groupId,
+                List.of(creator.getUserId(), first.getUserId(), second.getUserId(), -1L));
+
+        mockMvc.perform(post("/v1/groups/member/add/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkDto)))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.memberCount").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].outcome").value("ALREADY_MEMBER"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[1].outcome").value("ADDED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[2].outcome").value("ADDED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[3].outcome").value("USER_NOT_FOUND"));
+    }
+
+    @Test
+    void addMember_RecordsServiceTimerAndSqlStatements() throws Exception {
+        User creator = userRepository.save(getValidUser());
+        User friend = userRepository.save(new User("Asha", "asha@example.com", "9876500000", "hashed"));
+
+        String body = mockMvc.perform(post("/v1/groups/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateGroupDto("Goa Trip 2026", creator.getUserId()))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long groupId = objectMapper.readTree(body).get("groupId").asLong();
+
+        mockMvc.perform(post("/v1/groups/member/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddGroupMembersDto(groupId, friend.getUserId()))))
+                .andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find("splitspend.service")
+                .tags("class", GroupService.class.getName(), "method", "addMember").timer());
+        DistributionSummary statements = meterRegistry.find("splitspend.request.sql.statements")
+                .tags("uri", "/v1/groups/member/add").summary();
+        assertNotNull(statements);
+        assertTrue(statements.totalAmount() > 0);
+    }
+
+    @Test
+    void getUserGroups_ReturnsGroupsWithRole() throws Exception {
+        User creator = userRepository.save(getValidUser());
+        User friend = userRepository.save(new User("Asha", "asha@example.com", "9876500000", "hashed"));
+
+        String body = mockMvc.perform(post("/v1/groups/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateGroupDto("Goa Trip 2026", creator.getUserId()))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long groupId = objectMapper.readTree(body).get("groupId").asLong();
+
+        mockMvc.perform(post("/v1/groups/member/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddGroupMembersDto(groupId, friend.getUserId()))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/groups/user/{userId}", friend.getUserId()))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.groups.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.groups[0].groupName").value("Goa Trip 2026"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.groups[0].memberCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.groups[0].role").value("MEMBER"));
+    }
+
+    @Test
+    void exportGroups_WritesOneJsonLinePerGroup() throws Exception {
+        User creator = userRepository.save(getValidUser());
+        User friend = userRepository.save(new User("Asha", "asha@example.com", "9876500000", "hashed"));
+
+        for (String name : new String[]{"Goa Trip", "Flatmates"}) {
+            mockMvc.perform(post("/v1/groups/create")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateGroupDto(name, creator.getUserId()))))
+                    .andExpect(status().isCreated());
+        }
+        Long firstGroupId = firstGroupId();
+        mockMvc.perform(post("/v1/groups/member/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddGroupMembersDto(firstGroupId, friend.getUserId()))))
+                .andExpect(status().isOk());
+
+        // called directly: the streamed endpoint runs on another thread and cannot see this test's transaction
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = groupExportService.exportGroups(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertEquals("Goa Trip", objectMapper.readTree(lines[0]).get("groupName").asText());
+        assertEquals(2, objectMapper.readTree(lines[0]).get("members").size());
+        assertEquals(1, objectMapper.readTree(lines[1]).get("members").size());
+    }
+
+    @Test
+    void exportGroups_Returns403_WhenExportDisabled() throws Exception {
+        mockMvc.perform(get("/v1/groups/export"))
+                .andExpect(status().isForbidden());
+    }
+
+    private Long firstGroupId() throws Exception {
+        String body = mockMvc.perform(get("/v1/groups").param("size", "1"))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("groups").get(0).get("groupId").asLong();
+    }
 }
@@ -0,0 +1,58 @@
+package com.tejas.splitspend.group;
+
+import com.tejas.splitspend.auth.TokenService;
+import com.tejas.splitspend.common.SecurityConfig;
+import com.tejas.splitspend.user.User;
+import com.tejas.splitspend.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.tejas.splitspend.common.fixtures.getValidUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "splitspend.groups.export.enabled=true")
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+@Transactional
+class GroupExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    void exportGroups_StreamsNdjson_ForAuthenticatedCaller() throws Exception {
+        User admin = userRepository.save(getValidUser());
+        String accessToken = tokenService.issue(admin.getUserId()).accessToken();
+
+        var result = mockMvc.perform(get("/v1/groups/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+    }
+
+    @Test
+    void exportGroups_Returns403_WithoutToken() throws Exception {
+        mockMvc.perform(get("/v1/groups/export"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,6 +1,20 @@
 package com.tejas.splitspend.group;
 
+import com.tejas.splitspend.group.dto.AddGroupMembersBulkDto;
+import com.tejas.splitspend.group.dto.AddGroupMembersDto;
+import com.tejas.splitspend.group.dto.BulkAddMembersResponseDto;
 import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.group.dto.GroupMembersResponseDto;
+import com.tejas.splitspend.group.dto.GroupPageResponseDto;
+import com.tejas.splitspend.group.dto.GroupResponseDto;
+import com.tejas.splitspend.group.dto.MemberAddResultDto;
+import com.tejas.splitspend.group.dto.MemberDto;
+import com.tejas.splitspend.group.dto.UserGroupDto;
+import com.tejas.splitspend.group.dto.UserGroupsResponseDto;
+import com.tejas.splitspend.group.events.GroupCreated;
+import com.tejas.splitspend.group.events.MemberAdded;
+import com.tejas.splitspend.group.exceptions.GroupMemberDuplicateException;
+import com.tejas.splitspend.outbox.DomainEventPublisher;
 import com.tejas.splitspend.user.User;
 import com.tejas.splitspend.user.UserRepository;
 import com.tejas.splitspend.user.exceptions.InvalidCredentialsException;
@@ -10,12 +24,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.tejas.splitspend.common.fixtures.getValidUser;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,9 +47,18 @@ class GroupServiceTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private GroupMemberRepository groupMemberRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserGroupsCache userGroupsCache;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     @InjectMocks
     private GroupService groupService;
 
@@ -43,7 +75,9 @@ class GroupServiceTest {
         assertNotNull(result);
         assertEquals("Goa Trip", result.getGroupName());
         assertEquals(1, result.getMembers().size());
+        assertEquals(1, result.getMemberCount());
         assertEquals(MemberRole.ADMIN, result.getMembers().get(0).getRole());
+        verify(eventPublisher).publish(new GroupCreated(null, "Goa Trip", 1L));
     }
 
     @Test
@@ -56,10 +90,136 @@ class GroupServiceTest {
     }
 
     @Test
-    void getAllGroups() {
+    void getGroups_ReturnsNextCursor_WhenMoreRowsExist() {
+        List<GroupResponseDto> rows = List.of(
+                new GroupResponseDto(1L, "Goa Trip", 1L, ZonedDateTime.now(), 3),
+                new GroupResponseDto(2L, "Flat", 1L, ZonedDateTime.now(), 2),
+                new GroupResponseDto(3L, "Office", 2L, ZonedDateTime.now(), 5));
+
+        when(groupRepository.findGroupSummariesAfter(0L, Limit.of(3))).thenReturn(rows);
+
+        GroupPageResponseDto result = groupService.getGroups(null, 2);
+
+        assertEquals(2, result.groups().size());
+        assertEquals(2L, result.nextCursor());
+    }
+
+    @Test
+    void getGroups_ReturnsNullCursor_OnLastPage() {
+        List<GroupResponseDto> rows = List.of(
+                new GroupResponseDto(3L, "Office", 2L, ZonedDateTime.now(), 5));
+
+        when(groupRepository.findGroupSummariesAfter(2L, Limit.of(3))).thenReturn(rows);
+
+        GroupPageResponseDto result = groupService.getGroups(2L, 2);
+
+        assertEquals(1, result.groups().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void addMember_Success() {
+        User user = getValidUser();
+        user.setUserId(2L);
+        Group group = new Group("Goa Trip", 1L);
+        group.setGroupId(10L);
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(groupRepository.findById(10L)).thenReturn(Optional.of(group));
+        when(groupMemberRepository.existsByGroupIdAndUserId(10L, 2L)).thenReturn(false);
+        List<MemberDto> members = List.of(new MemberDto(2L, user.getName(), user.getEmail(), MemberRole.MEMBER, ZonedDateTime.now()));
+        when(groupMemberRepository.findMemberDtos(10L)).thenReturn(members);
+
+        GroupMembersResponseDto result = groupService.addMember(new AddGroupMembersDto(10L, 2L));
+
+        assertEquals(1, result.memberCount());
+        assertEquals(members, result.members());
+        verify(groupMemberRepository).saveAndFlush(any(GroupMember.class));
+        verify(userGroupsCache).invalidateAfterCommit(List.of(2L));
+        verify(eventPublisher).publish(new MemberAdded(10L, 2L, MemberRole.MEMBER, 1));
+    }
+
+    @Test
+    void addMember_ThrowsDuplicate_WhenAlreadyMember() {
+        User user = getValidUser();
+        user.setUserId(2L);
+        Group group = new Group("Goa Trip", 1L);
+        group.setGroupId(10L);
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(groupRepository.findById(10L)).thenReturn(Optional.of(group));
+        when(groupMemberRepository.existsByGroupIdAndUserId(10L, 2L)).thenReturn(true);
+
+        assertThrows(GroupMemberDuplicateException.class,
+                () -> groupService.addMember(new AddGroupMembersDto(10L, 2L)));
+        verify(groupMemberRepository, never()).saveAndFlush(any(GroupMember.class));
+    }
+
+    @Test
+    void addMember_MapsUniqueViolationToDuplicate() {
+        User user = getValidUser();
+        user.setUserId(2L);
+        Group group = new Group("Goa Trip", 1L);
+        group.setGroupId(10L);
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(groupRepository.findById(10L)).thenReturn(Optional.of(group));
+        when(groupMemberRepository.existsByGroupIdAndUserId(10L, 2L)).thenReturn(false);
+        when(groupMemberRepository.saveAndFlush(any(GroupMember.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "Duplicate entry '10-2' for key 'group_members.uk_group_members_group_user'"));
+
+        assertThrows(GroupMemberDuplicateException.class,
+                () -> groupService.addMember(new AddGroupMembersDto(10L, 2L)));
+    }
+
+    @Test
+    void addMembers_ReportsOutcomePerUser() {
+        User existing = getValidUser();
+        existing.setUserId(2L);
+        User newcomer = new User("Asha", "asha@example.com", "9876500000", "hashed");
+        newcomer.setUserId(3L);
+        Group group = new Group("Goa Trip", 1L);
+        group.setGroupId(10L);
+
+        when(groupRepository.findById(10L)).thenReturn(Optional.of(group));
+        when(userRepository.findAllById(any())).thenReturn(List.of(existing, newcomer));
+        when(groupMemberRepository.findMemberUserIds(eq(10L), any())).thenReturn(Set.of(2L));
+
+        BulkAddMembersResponseDto result = groupService.addMembers(
+                new AddGroupMembersBulkDto(10L, List.of(2L, 3L, 3L, 99L)));
+
+        assertEquals(List.of(
+                new MemberAddResultDto(2L, MemberAddResultDto.Outcome.ALREADY_MEMBER),
+                new MemberAddResultDto(3L, MemberAddResultDto.Outcome.ADDED),
+                new MemberAddResultDto(99L, MemberAddResultDto.Outcome.USER_NOT_FOUND)
+        ), result.results());
+        assertEquals(1, result.memberCount());
+        verify(groupMemberRepository).saveAllAndFlush(argThat(members -> ((List<?>) members).size() == 1));
+        verify(userGroupsCache).invalidateAfterCommit(List.of(3L));
+        verify(eventPublisher).publish(new MemberAdded(10L, 3L, MemberRole.MEMBER, 1));
     }
 
     @Test
-    void addMember() {
+    void getUserGroups_ReturnsCachedGroups_WithoutQuery() {
+        List<UserGroupDto> cached = List.of(new UserGroupDto(10L, "Goa Trip", 3, MemberRole.ADMIN));
+        when(userGroupsCache.get(1L)).thenReturn(Optional.of(cached));
+
+        UserGroupsResponseDto result = groupService.getUserGroups(1L);
+
+        assertEquals(cached, result.groups());
+        verify(groupMemberRepository, never()).findUserGroups(any());
+    }
+
+    @Test
+    void getUserGroups_LoadsAndCaches_OnMiss() {
+        List<UserGroupDto> rows = List.of(new UserGroupDto(10L, "Goa Trip", 3, MemberRole.MEMBER));
+        when(userGroupsCache.stamp(1L)).thenReturn(7L);
+        when(groupMemberRepository.findUserGroups(1L)).thenReturn(rows);
+
+        UserGroupsResponseDto result = groupService.getUserGroups(1L);
+
+        assertEquals(rows, result.groups());
+        verify(userGroupsCache).put(1L, rows, 7L);
     }
-}
\ No newline at end of file
+}
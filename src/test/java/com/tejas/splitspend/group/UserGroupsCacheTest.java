@@ -0,0 +1,96 @@
+package com.tejas.splitspend.group;
+
+import com.tejas.splitspend.group.dto.UserGroupDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserGroupsCacheTest {
+
+    private static final List<UserGroupDto> GROUPS = List.of(new UserGroupDto(10L, "Goa Trip", 2, MemberRole.ADMIN));
+
+    @Test
+    void get_ReturnsStoredGroups_UntilInvalidated() {
+        UserGroupsCache cache = new UserGroupsCache(Duration.ofMinutes(1), 10);
+        cache.put(1L, GROUPS, cache.stamp(1L));
+
+        assertEquals(GROUPS, cache.get(1L).orElseThrow());
+
+        cache.invalidateAfterCommit(List.of(1L));
+
+        assertTrue(cache.get(1L).isEmpty());
+    }
+
+    @Test
+    void put_IsDiscarded_WhenInvalidationOverlapsLoad() {
+        UserGroupsCache cache = new UserGroupsCache(Duration.ofMinutes(1), 10);
+        long stamp = cache.stamp(1L);
+
+        cache.invalidateAfterCommit(List.of(1L));
+        cache.put(1L, GROUPS, stamp);
+
+        assertTrue(cache.get(1L).isEmpty());
+    }
+
+    @Test
+    void put_IsKept_WhenOnlyOtherUsersAreInvalidatedDuringLoad() {
+        UserGroupsCache cache = new UserGroupsCache(Duration.ofMinutes(1), 10);
+        long stamp = cache.stamp(1L);
+
+        cache.invalidateAfterCommit(List.of(2L, 3L));
+        cache.put(1L, GROUPS, stamp);
+
+        assertEquals(GROUPS, cache.get(1L).orElseThrow());
+    }
+
+    @Test
+    void put_IsKept_WhenLoadStartsAfterInvalidation() {
+        UserGroupsCache cache = new UserGroupsCache(Duration.ofMinutes(1), 10);
+        cache.invalidateAfterCommit(List.of(1L));
+
+        cache.put(1L, GROUPS, cache.stamp(1L));
+
+        assertEquals(GROUPS, cache.get(1L).orElseThrow());
+    }
+
+    @Test
+    void get_ReturnsNull_AfterTtlExpires() {
+        MutableClock clock = new MutableClock();
+        UserGroupsCache cache = new UserGroupsCache(Duration.ofMinutes(1), 10, clock);
+        cache.put(1L, GROUPS, cache.stamp(1L));
+
+        clock.advance(Duration.ofMinutes(2));
+
+        assertTrue(cache.get(1L).isEmpty());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
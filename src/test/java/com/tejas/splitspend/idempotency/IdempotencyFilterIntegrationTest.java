@@ -0,0 +1,148 @@
+package com.tejas.splitspend.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tejas.splitspend.common.SecurityConfig;
+import com.tejas.splitspend.group.GroupRepository;
+import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.user.User;
+import com.tejas.splitspend.user.UserRepository;
+import com.tejas.splitspend.user.UserService;
+import com.tejas.splitspend.user.dto.UserSignupDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static com.tejas.splitspend.common.fixtures.getValidUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+@Transactional
+class IdempotencyFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Test
+    void signup_Retry_ReplaysResponse_WithoutCreatingUserAgain() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(
+                new UserSignupDto("Retry User", "retry@example.com", "9400000001", "password123"));
+        long signupsBefore = createUserCalls();
+
+        String first = mockMvc.perform(post("/v1/user/signup")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/v1/user/signup")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().json(first, true));
+
+        assertEquals(1, createUserCalls() - signupsBefore);
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    void createGroup_Retry_DoesNotCreateSecondGroup() throws Exception {
+        User creator = userRepository.save(getValidUser());
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new CreateGroupDto("Retry Trip", creator.getUserId()));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/v1/groups/create")
+                            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.groupName").value("Retry Trip"));
+        }
+
+        assertEquals(1, groupRepository.count());
+    }
+
+    @Test
+    void sameKey_WithDifferentBody_Returns422() throws Exception {
+        User creator = userRepository.save(getValidUser());
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(post("/v1/groups/create")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateGroupDto("First Trip", creator.getUserId()))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/v1/groups/create")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateGroupDto("Other Trip", creator.getUserId()))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value(422));
+
+        assertEquals(1, groupRepository.count());
+    }
+
+    @Test
+    void blankKey_Returns400() throws Exception {
+        mockMvc.perform(post("/v1/groups/create")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateGroupDto("Trip", 1L))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void oversizedBody_Returns413_WithoutRunningRequest() throws Exception {
+        User creator = userRepository.save(getValidUser());
+        String body = objectMapper.writeValueAsString(new CreateGroupDto("x".repeat(20_000), creator.getUserId()));
+
+        mockMvc.perform(post("/v1/groups/create")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.status").value(413));
+
+        assertEquals(0, groupRepository.count());
+    }
+
+    private long createUserCalls() {
+        Timer timer = meterRegistry.find("splitspend.service")
+                .tags("class", UserService.class.getName(), "method", "createUser").timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,101 @@
+package com.tejas.splitspend.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryIdempotencyStoreTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final InMemoryIdempotencyStore store =
+            new InMemoryIdempotencyStore(Duration.ofHours(1), Duration.ofMinutes(1), 2, clock);
+
+    @Test
+    void claim_ReturnsInProgress_ThenStoredResponse() {
+        assertTrue(store.claim("key", "hash", "first").isEmpty());
+        assertTrue(store.claim("key", "hash", "retry").orElseThrow().inProgress());
+
+        store.complete("key", "first", response());
+
+        IdempotencyRecord record = store.claim("key", "hash", "retry").orElseThrow();
+        assertEquals(201, record.response().status());
+        assertEquals("hash", record.requestHash());
+    }
+
+    @Test
+    void claim_TakesOver_AbandonedOrExpiredKeys() {
+        store.claim("abandoned", "hash", "first");
+        store.claim("done", "hash", "first");
+        store.complete("done", "first", response());
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(store.claim("abandoned", "hash", "retry").isEmpty());
+        assertTrue(store.claim("done", "hash", "retry").isPresent());
+
+        clock.advance(Duration.ofHours(1));
+        assertTrue(store.claim("done", "hash", "late").isEmpty());
+    }
+
+    @Test
+    void completeAndRelease_AreIgnored_AfterClaimWasTakenOver() {
+        store.claim("key", "hash", "slow");
+        clock.advance(Duration.ofMinutes(2));
+        store.claim("key", "hash", "takeover");
+
+        store.complete("key", "slow", response());
+        store.release("key", "slow");
+
+        assertTrue(store.claim("key", "hash", "retry").orElseThrow().inProgress());
+    }
+
+    @Test
+    void claim_EvictsKeys_BeyondMaxSize() {
+        List<String> keys = List.of("a", "b", "c");
+        keys.forEach(key -> store.claim(key, "hash", "first"));
+
+        // a key still held answers with its in-progress record; an evicted one is free again
+        assertTrue(keys.stream().anyMatch(key -> store.claim(key, "hash", "retry").isEmpty()));
+    }
+
+    @Test
+    void release_FreesKey() {
+        store.claim("key", "hash", "first");
+        store.release("key", "first");
+
+        assertTrue(store.claim("key", "hash", "retry").isEmpty());
+    }
+
+    private static StoredResponse response() {
+        return new StoredResponse(201, "application/json", "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
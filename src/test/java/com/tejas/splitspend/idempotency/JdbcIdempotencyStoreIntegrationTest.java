@@ -0,0 +1,95 @@
+package com.tejas.splitspend.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class JdbcIdempotencyStoreIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MutableClock clock;
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        store = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(1), Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    void claim_ReturnsInProgress_ThenStoredResponse() {
+        assertTrue(store.claim("/v1/groups/create k1", "hash", "first").isEmpty());
+        assertTrue(store.claim("/v1/groups/create k1", "hash", "retry").orElseThrow().inProgress());
+
+        store.complete("/v1/groups/create k1", "first",
+                new StoredResponse(201, "application/json", "{\"groupId\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        StoredResponse response = store.claim("/v1/groups/create k1", "hash", "retry").orElseThrow().response();
+        assertEquals(201, response.status());
+        assertEquals("application/json", response.contentType());
+        assertEquals("{\"groupId\":1}", new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void claim_TakesOver_AbandonedClaim_AndReleasedKey() {
+        store.claim("/v1/user/signup k2", "hash", "first");
+        clock.advance(Duration.ofMinutes(2));
+
+        assertTrue(store.claim("/v1/user/signup k2", "other", "takeover").isEmpty());
+        assertEquals("other", store.claim("/v1/user/signup k2", "other", "retry").orElseThrow().requestHash());
+
+        store.release("/v1/user/signup k2", "takeover");
+        assertTrue(store.claim("/v1/user/signup k2", "hash", "retry").isEmpty());
+    }
+
+    @Test
+    void completeAndRelease_AreIgnored_AfterClaimWasTakenOver() {
+        store.claim("/v1/user/signup k3", "hash", "slow");
+        clock.advance(Duration.ofMinutes(2));
+        store.claim("/v1/user/signup k3", "hash", "takeover");
+
+        store.complete("/v1/user/signup k3", "slow",
+                new StoredResponse(201, "application/json", "{}".getBytes(StandardCharsets.UTF_8)));
+        store.release("/v1/user/signup k3", "slow");
+
+        assertTrue(store.claim("/v1/user/signup k3", "hash", "retry").orElseThrow().inProgress());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
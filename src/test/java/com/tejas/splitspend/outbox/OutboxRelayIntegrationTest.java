@@ -0,0 +1,148 @@
+package com.tejas.splitspend.outbox;
+
+import com.tejas.splitspend.group.GroupRepository;
+import com.tejas.splitspend.group.GroupService;
+import com.tejas.splitspend.group.dto.AddGroupMembersBulkDto;
+import com.tejas.splitspend.group.dto.AddGroupMembersDto;
+import com.tejas.splitspend.group.dto.CreateGroupDto;
+import com.tejas.splitspend.group.events.GroupCreated;
+import com.tejas.splitspend.user.User;
+import com.tejas.splitspend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Not @Transactional: the relay only sees events once their transaction commits.
+ * Rows are removed again in tearDown so other integration tests see an empty schema.
+ */
+@SpringBootTest
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User creator;
+    private User friend;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        creator = userRepository.save(new User("Outbox Owner", "outbox.owner@example.com", "9200000001", "hashed"));
+        friend = userRepository.save(new User("Outbox Friend", "outbox.friend@example.com", "9200000002", "hashed"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (groupId != null) {
+            groupRepository.deleteById(groupId);
+        }
+        outboxEventRepository.deleteAll();
+        userRepository.deleteAll(List.of(creator, friend));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void addMember_RefreshesOtherMembersGroups_ThroughOutbox() {
+        groupId = groupService.createGroup(new CreateGroupDto("Outbox Trip", creator.getUserId())).getGroupId();
+        // warm the creator's cached list
+        assertEquals(1, groupService.getUserGroups(creator.getUserId()).groups().get(0).memberCount());
+
+        groupService.addMember(new AddGroupMembersDto(groupId, friend.getUserId()));
+
+        awaitTrue(() -> groupService.getUserGroups(creator.getUserId()).groups().get(0).memberCount() == 2);
+        awaitTrue(() -> outboxEventRepository.count() == 0);
+    }
+
+    @Test
+    void addMembers_RefreshesOtherMembersGroups_ThroughOutbox() {
+        groupId = groupService.createGroup(new CreateGroupDto("Outbox Trip", creator.getUserId())).getGroupId();
+        assertEquals(1, groupService.getUserGroups(creator.getUserId()).groups().get(0).memberCount());
+
+        groupService.addMembers(new AddGroupMembersBulkDto(groupId, List.of(friend.getUserId())));
+
+        awaitTrue(() -> groupService.getUserGroups(creator.getUserId()).groups().get(0).memberCount() == 2);
+        awaitTrue(() -> outboxEventRepository.count() == 0);
+    }
+
+    @Test
+    void relay_ClaimsExpiredLeases_AndLeavesLiveOnesToTheirInstance() {
+        OutboxEvent live = outboxEventRepository.save(leasedBy("other-instance", ZonedDateTime.now().plusHours(1)));
+        OutboxEvent expired = outboxEventRepository.save(leasedBy("other-instance", ZonedDateTime.now().minusMinutes(1)));
+
+        // nobody subscribes to the type, so a claimed row is deleted straight away
+        awaitTrue(() -> !outboxEventRepository.existsById(expired.getOutboxEventId()));
+        assertTrue(outboxEventRepository.existsById(live.getOutboxEventId()));
+        assertFalse(outboxEventRepository.findClaimable(ZonedDateTime.now(), Limit.of(10))
+                .contains(live.getOutboxEventId()));
+    }
+
+    @Test
+    void publish_WritesNothing_WhenTransactionRollsBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publish(new GroupCreated(1L, "Rolled Back", creator.getUserId()));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void publish_Throws_OutsideTransaction() {
+        assertThrows(IllegalStateException.class,
+                () -> eventPublisher.publish(new GroupCreated(1L, "No Transaction", creator.getUserId())));
+    }
+
+    private static OutboxEvent leasedBy(String instanceId, ZonedDateTime claimedUntil) {
+        OutboxEvent row = new OutboxEvent("LeaseProbe", "{}");
+        row.setClaimedBy(instanceId);
+        row.setClaimedUntil(claimedUntil);
+        return row;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 10s");
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.tejas.splitspend.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<OutboxEvent> rows = new CopyOnWriteArrayList<>();
+    private final Set<Long> dispatched = ConcurrentHashMap.newKeySet();
+    private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<Integer> received = new CopyOnWriteArrayList<>();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        when(repository.findClaimable(any(), any(Limit.class))).thenAnswer(invocation -> rows.stream()
+                .map(OutboxEvent::getOutboxEventId)
+                .filter(id -> !dispatched.contains(id))
+                .limit(invocation.<Limit>getArgument(1).max())
+                .toList());
+        when(repository.claim(any(), any(), any(), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            dispatched.addAll(ids);
+            return ids.size();
+        });
+        when(repository.findByOutboxEventIdInAndClaimedByOrderByOutboxEventId(any(), any()))
+                .thenAnswer(invocation -> rows.stream()
+                        .filter(row -> invocation.<Collection<Long>>getArgument(0).contains(row.getOutboxEventId()))
+                        .toList());
+        doAnswer(invocation -> deleted.addAll(invocation.getArgument(0)))
+                .when(repository).deleteAllByIdInBatch(any());
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        relay = new OutboxRelay(repository, transactionManager, objectMapper, meterRegistry,
+                List.of(new BlockingSubscriber()), Duration.ofMillis(20), 10, 2, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        relay.stop();
+    }
+
+    @Test
+    void relay_StopsClaiming_WhileMaxInFlightAreUnhandled() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            rows.add(row(i));
+        }
+
+        relay.start();
+        awaitTrue(() -> meterRegistry.counter("splitspend.outbox.backpressure").count() > 0);
+
+        assertEquals(2, dispatched.size());
+        assertTrue(deleted.isEmpty());
+
+        release.countDown();
+        awaitTrue(() -> deleted.size() == 5);
+        assertEquals(List.of(1, 2, 3, 4, 5), received);
+        assertEquals(5, meterRegistry.counter("splitspend.outbox.events", "type", "Ping", "outcome", "handled").count());
+    }
+
+    @Test
+    void relay_DeletesEvents_NobodySubscribesTo() {
+        OutboxEvent orphan = row(1);
+        orphan.setEventType("Unknown");
+        rows.add(orphan);
+
+        relay.start();
+        awaitTrue(() -> deleted.contains(1L));
+
+        assertTrue(received.isEmpty());
+        assertEquals(1, meterRegistry.counter("splitspend.outbox.events", "type", "Unknown", "outcome", "unhandled").count());
+    }
+
+    private OutboxEvent row(int n) {
+        try {
+            OutboxEvent row = new OutboxEvent("Ping", objectMapper.writeValueAsString(new Ping(n)));
+            row.setOutboxEventId((long) n);
+            row.setCreatedAt(ZonedDateTime.now());
+            return row;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(ex);
+            }
+        }
+    }
+
+    record Ping(int n) implements DomainEvent {
+    }
+
+    private class BlockingSubscriber implements DomainEventSubscriber<Ping> {
+
+        @Override
+        public Class<Ping> eventType() {
+            return Ping.class;
+        }
+
+        @Override
+        public void handle(Ping event) {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event.n());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.tejas.splitspend.settlement;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SettlementEngineTest {
+
+    private final SettlementEngine engine = new SettlementEngine(16, Duration.ofSeconds(1));
+
+    @Test
+    void settle_UsesFewerTransfersThanGreedy_ForSmallGroups() {
+        long[] balances = {-9, 7, -2, 5, 6, -7};
+
+        SettlementPlan exact = engine.settle(balances);
+        SettlementPlan greedy = engine.settleGreedy(balances, balances.length);
+
+        assertEquals(4, exact.size());
+        assertEquals(5, greedy.size());
+        assertSettles(balances, exact);
+        assertSettles(balances, greedy);
+    }
+
+    @Test
+    void settle_SkipsZeroBalances() {
+        long[] balances = {0, 500, 0, -500};
+
+        SettlementPlan plan = engine.settle(balances);
+
+        assertEquals(1, plan.size());
+        assertEquals(3, plan.from(0));
+        assertEquals(1, plan.to(0));
+        assertEquals(500, plan.amount(0));
+    }
+
+    @Test
+    void settle_FallsBackToGreedy_ForLargeGroups() {
+        long[] balances = randomBalances(10_000, new Random(42));
+
+        SettlementPlan plan = engine.settle(balances);
+
+        assertTrue(plan.size() <= balances.length - 1);
+        assertSettles(balances, plan);
+    }
+
+    @Test
+    void settle_FallsBackToGreedy_WhenTimeBudgetExceeded() {
+        SettlementEngine impatient = new SettlementEngine(20, Duration.ZERO);
+        long[] balances = randomBalances(20, new Random(7));
+
+        assertNull(impatient.settleExact(balances, balances.length));
+        assertSettles(balances, impatient.settle(balances));
+    }
+
+    @Test
+    void settle_Throws_WhenBalancesDoNotSumToZero() {
+        assertThrows(IllegalArgumentException.class, () -> engine.settle(new long[]{100, -50}));
+    }
+
+    private long[] randomBalances(int members, Random random) {
+        long[] balances = new long[members];
+        long total = 0;
+        for (int i = 0; i < members - 1; i++) {
+            balances[i] = random.nextInt(200_001) - 100_000;
+            total += balances[i];
+        }
+        balances[members - 1] = -total;
+        return balances;
+    }
+
+    private void assertSettles(long[] balances, SettlementPlan plan) {
+        long[] remaining = balances.clone();
+        for (int i = 0; i < plan.size(); i++) {
+            assertTrue(plan.amount(i) > 0);
+            remaining[plan.from(i)] += plan.amount(i);
+            remaining[plan.to(i)] -= plan.amount(i);
+        }
+        for (long balance : remaining) {
+            assertEquals(0, balance);
+        }
+    }
+}
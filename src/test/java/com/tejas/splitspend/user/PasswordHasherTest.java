@@ -0,0 +1,77 @@
+package com.tejas.splitspend.user;
+
+import com.tejas.splitspend.user.exceptions.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_RecordLatency() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 1, 4, true);
+
+        String hash = passwordHasher.encode("password123");
+
+        assertTrue(passwordHasher.matches("password123", hash));
+        assertFalse(passwordHasher.matches("wrongpassword", hash));
+        assertEquals(1, meterRegistry.get("splitspend.password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("splitspend.password.hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void needsRehash_OnlyWhenStoredCostIsLower() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), meterRegistry, 1, 4, true);
+
+        assertTrue(passwordHasher.needsRehash(new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(passwordHasher.needsRehash(passwordHasher.encode("password123")));
+    }
+
+    @Test
+    void encode_ThrowsUnavailable_WhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        passwordHasher = new PasswordHasher(blockingEncoder, meterRegistry, 1, 1, true);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("second"));
+        while (meterRegistry.get("splitspend.password.hashing.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordHasher.encode("third"));
+        assertEquals(1, meterRegistry.get("splitspend.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -140,7 +140,10 @@ class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$.userId").exists())
                 .andExpect(jsonPath("$.email").value("login@example.com"))
                 .andExpect(jsonPath("$.createdAt").exists())
-                .andExpect(jsonPath("$.name").value("Tejas"));
+                .andExpect(jsonPath("$.name").value("Tejas"))
+                .andExpect(jsonPath("$.tokens.accessToken").exists())
+                .andExpect(jsonPath("$.tokens.refreshToken").exists())
+                .andExpect(jsonPath("$.tokens.tokenType").value("Bearer"));
     }
 
     @Test
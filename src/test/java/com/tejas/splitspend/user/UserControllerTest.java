@@ -1,6 +1,7 @@
 package com.tejas.splitspend.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tejas.splitspend.auth.TokenService;
 import com.tejas.splitspend.common.GlobalExceptionHandler;
 import com.tejas.splitspend.common.SecurityConfig;
 import com.tejas.splitspend.user.dto.UserSignupDto;
@@ -10,13 +11,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +40,9 @@ class UserControllerTest {
     @MockBean
     private PasswordEncoder passwordEncoder;
 
+    @MockBean
+    private TokenService tokenService;
+
     @Test
     void signup_Returns500_WhenUnexpectedExceptionOccurs() throws Exception {
 
@@ -80,4 +87,25 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.message")
                         .value("User with email test@example.com already exists"));
     }
+
+    @Test
+    void signup_Returns409WithRetryAfter_WhenOptimisticLockConflictEscapes() throws Exception {
+
+        UserSignupDto dto = new UserSignupDto(
+                "test1",
+                "test@example.com",
+                "9876543210",
+                "password1234"
+        );
+
+        when(userService.createUser(any(UserSignupDto.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, 1L));
+
+        mockMvc.perform(post("/v1/user/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isConflict())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.status").value(409));
+    }
 }
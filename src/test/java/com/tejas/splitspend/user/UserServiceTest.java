@@ -10,7 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
@@ -25,7 +25,10 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordEncoder;
+
+    @Mock
+    private VerifiedCredentialCache credentialCache;
 
     @InjectMocks
     private UserService userService;
@@ -40,10 +43,8 @@ class UserServiceTest {
                 "password123"
         );
 
-        when(userRepository.existsByEmail(signupDto.email())).thenReturn(false);
-        when(userRepository.existsByPhoneNumber(signupDto.phoneNumber())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$hashedPassword");
-        when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(i -> i.getArgument(0));
 
         User result = userService.createUser(signupDto);
 
@@ -51,7 +52,7 @@ class UserServiceTest {
         assertEquals("Tejas", result.getName());
         assertEquals("tejas@example.com", result.getEmail());
 
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -64,13 +65,13 @@ class UserServiceTest {
                 "password123"
         );
 
-        when(userRepository.existsByEmail(dto.email())).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "Duplicate entry 'existing@example.com' for key 'users.uk_users_email'"));
 
         assertThrows(EmailAlreadyExistsException.class, () -> {
             userService.createUser(dto);
         });
-
-        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -138,13 +139,54 @@ class UserServiceTest {
                 "password123"
         );
 
-        when(userRepository.existsByEmail(dto.email())).thenReturn(false);
-        when(userRepository.existsByPhoneNumber(dto.phoneNumber())).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "Duplicate entry '9876543210' for key 'users.uk_users_phone_number'"));
 
         assertThrows(PhoneNumberAlreadyExistsException.class, () -> {
             userService.createUser(dto);
         });
+    }
+
+    @Test
+    void login_SkipsBcrypt_WhenCredentialRecentlyVerified() {
+        LoginRequestDto request = new LoginRequestDto(
+                "tejas@example.com",
+                "password123"
+        );
+
+        User user = new User("Tejas", "tejas@example.com", "9876543210", "$2a$10$hashedPassword");
+
+        when(userRepository.findByEmail(request.email()))
+                .thenReturn(Optional.of(user));
+        when(credentialCache.isVerified(request.email(), request.password(), user.getPassword()))
+                .thenReturn(true);
+
+        User result = userService.userLogin(request);
+
+        assertEquals("Tejas", result.getName());
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void login_RehashesPassword_WhenStoredCostIsOutdated() {
+        LoginRequestDto request = new LoginRequestDto(
+                "tejas@example.com",
+                "password123"
+        );
+
+        User user = new User("Tejas", "tejas@example.com", "9876543210", "$2a$08$oldHash");
+
+        when(userRepository.findByEmail(request.email()))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(request.password(), "$2a$08$oldHash")).thenReturn(true);
+        when(passwordEncoder.needsRehash("$2a$08$oldHash")).thenReturn(true);
+        when(passwordEncoder.encode(request.password())).thenReturn("$2a$10$newHash");
+        when(userRepository.save(user)).thenReturn(user);
+
+        User result = userService.userLogin(request);
 
-        verify(userRepository, never()).save(any(User.class));
+        assertEquals("$2a$10$newHash", result.getPassword());
+        verify(credentialCache).remember(request.email(), request.password(), "$2a$10$newHash");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package com.tejas.splitspend.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedCredentialCacheTest {
+
+    private static final String HASH = "$2a$10$hashedPassword";
+
+    @Test
+    void isVerified_MatchesOnlySameEmailPasswordAndHash() {
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(Duration.ofMinutes(5), 10);
+        cache.remember("tejas@example.com", "password123", HASH);
+
+        assertTrue(cache.isVerified("tejas@example.com", "password123", HASH));
+        assertFalse(cache.isVerified("tejas@example.com", "wrongpassword", HASH));
+        assertFalse(cache.isVerified("other@example.com", "password123", HASH));
+        assertFalse(cache.isVerified("tejas@example.com", "password123", "$2a$10$changedHash"));
+    }
+
+    @Test
+    void isVerified_False_AfterTtlExpires() {
+        MutableClock clock = new MutableClock();
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(Duration.ofMinutes(5), 10, clock);
+        cache.remember("tejas@example.com", "password123", HASH);
+
+        clock.advance(Duration.ofMinutes(6));
+
+        assertFalse(cache.isVerified("tejas@example.com", "password123", HASH));
+    }
+
+    @Test
+    void remember_StaysWithinMaxSize_WhenFull() {
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(Duration.ofMinutes(5), 2);
+        List<String> emails = List.of("a@example.com", "b@example.com", "c@example.com");
+        emails.forEach(email -> cache.remember(email, "password123", HASH));
+
+        assertEquals(2, emails.stream().filter(email -> cache.isVerified(email, "password123", HASH)).count());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}